@@ -0,0 +1,107 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of obtaining a job instance per trigger fire, with a shared instance of
+ * {@link SharedJobInstance} jobs and with a new autowired instance per fire.
+ *
+ * <p>Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobFactoryBenchmark {
+
+    @Param({"true", "false"})
+    private boolean sharedInstances;
+
+    private GenericApplicationContext context;
+    private AutowiringSpringBeanJobFactory jobFactory;
+    private TriggerFiredBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new GenericApplicationContext();
+        context.registerBean(Clock.class, Clock::systemUTC);
+        context.refresh();
+
+        jobFactory = new AutowiringSpringBeanJobFactory(context.getAutowireCapableBeanFactory());
+        jobFactory.setApplicationContext(context);
+        jobFactory.setSharedInstances(sharedInstances);
+
+        // Job data of the size of a typical schedule
+        JobDetail jobDetail = JobBuilder.newJob(LaunchJob.class)
+            .withIdentity("nightly", "etl")
+            .usingJobData("taskDefinitionName", "etl")
+            .usingJobData("payloadHash", "0123456789abcdef")
+            .usingJobData("misfirePolicy", "fire-once-now")
+            .usingJobData("concurrencyPolicy", "allow")
+            .build();
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+            .withIdentity("nightly", "etl")
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 0 * * * ?"))
+            .build();
+        Date now = new Date();
+        bundle = new TriggerFiredBundle(jobDetail, trigger, null, false, now, now, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Job newJob() throws Exception {
+        return jobFactory.newJob(bundle, null);
+    }
+
+    /**
+     * A job with constructor and field injection, like {@link QuartzExecutionJob}.
+     */
+    @SharedJobInstance
+    public static class LaunchJob implements Job {
+
+        private final Clock clock;
+        private final ObjectProvider<Runnable> listener;
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        public LaunchJob(Clock clock, ObjectProvider<Runnable> listener) {
+            this.clock = clock;
+            this.listener = listener;
+        }
+
+        @Override
+        public void execute(JobExecutionContext context) {
+            context.put("firedAt", clock.millis());
+            listener.ifAvailable(Runnable::run);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.github.thkwag.spring.cloud.dataflow.quartz.autoconfigure;
 
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.dataflow.server.config.features.SchedulerConfiguration;
 import org.springframework.cloud.deployer.spi.scheduler.Scheduler;
 import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
@@ -12,21 +15,43 @@ import org.springframework.cloud.deployer.spi.task.TaskLauncher;
 import org.springframework.cloud.deployer.spi.local.LocalDeployerProperties;
 import org.springframework.cloud.deployer.spi.local.LocalTaskLauncher;
 import org.springframework.context.annotation.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.cloud.dataflow.autoconfigure.local.LocalSchedulerAutoConfiguration;
 import org.springframework.context.annotation.Primary;
 
+import com.github.thkwag.spring.cloud.dataflow.quartz.forecast.ScheduleForecastEndpoint;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.AdvisoryLockSemaphore;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialectResolver;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.SchedulerDataSource;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.SchemaMigrator;
+import com.github.thkwag.spring.cloud.dataflow.quartz.forecast.ScheduleForecaster;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.LaunchRateLimiter;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.LaunchWatchdog;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RunningTaskExecutions;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.TaskLaunchDispatcher;
 import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.AutowiringSpringBeanJobFactory;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.MisfireMetricsListener;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.MisfireRecovery;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduleRepository;
 import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduler;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.ScheduleInfoCache;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.ScheduleVersionRepository;
 
 import org.springframework.cloud.task.repository.TaskExplorer;
 import org.springframework.cloud.task.repository.support.SimpleTaskExplorer;
 import org.springframework.cloud.task.repository.support.TaskExecutionDaoFactoryBean;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.sql.DataSource;
-import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Properties;
 import java.util.Collections;
 import java.util.List;
@@ -47,8 +72,10 @@ import java.util.List;
  * <ul>
  *   <li>Task execution and exploration capabilities</li>
  *   <li>Local task launcher configuration</li>
- *   <li>Quartz scheduler configuration with database persistence</li>
- *   <li>Automatic database type detection for PostgreSQL and MySQL/MariaDB</li>
+ *   <li>Quartz scheduler configuration with database persistence, tuned through {@link QuartzSchedulerProperties}</li>
+ *   <li>Optional dedicated connection pool for the Quartz tables</li>
+ *   <li>Database type detection for PostgreSQL, MySQL/MariaDB, H2 and HSQLDB, or an explicitly configured dialect</li>
+ *   <li>Versioned schema migrations with indexes for PostgreSQL and MySQL/MariaDB</li>
  * </ul>
  *
  * @see org.springframework.cloud.dataflow.server.config.features.SchedulerConfiguration
@@ -60,8 +87,21 @@ import java.util.List;
 @Import(QuartzSchedulerSchemaAutoConfiguration.class)
 @Conditional(SchedulerConfiguration.SchedulerConfigurationPropertyChecker.class)
 @ConditionalOnProperty(name = "spring.cloud.dataflow.task.scheduler.local.platform.type", havingValue = "quartz")
+@EnableConfigurationProperties(QuartzSchedulerProperties.class)
 public class QuartzSchedulerAutoConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(QuartzSchedulerAutoConfiguration.class);
+
+    /**
+     * Name of the Quartz scheduler, stored as SCHED_NAME in the Quartz tables.
+     */
+    public static final String SCHEDULER_NAME = "spring-cloud-dataflow-scheduler";
+
+    /**
+     * Prefix of the Quartz tables.
+     */
+    public static final String TABLE_PREFIX = "QRTZ_";
+
     /**
      * Creates a TaskExecutionDaoFactoryBean for managing task execution data persistence.
      *
@@ -115,75 +155,403 @@ public class QuartzSchedulerAutoConfiguration {
         return new LocalTaskLauncher(properties);
     }
 
+    /**
+     * Creates the datasource holding the Quartz tables. If a URL is set with
+     * spring.cloud.dataflow.scheduler.quartz.datasource.url, Quartz gets a dedicated connection pool;
+     * otherwise it shares Data Flow's datasource. The dedicated pool is sized for the number of
+     * concurrent fires unless a maximum pool size is set. Pool metrics are published for both pools.
+     *
+     * @param dataSource The datasource of Spring Cloud Data Flow
+     * @param transactionManager The transaction manager of Data Flow's datasource
+     * @param meterRegistry The registry for pool metrics, the global registry if none is available
+     * @param properties The scheduler properties, giving the dedicated pool settings
+     * @return The datasource holding the Quartz tables
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public SchedulerDataSource schedulerDataSource(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        SchedulerDataSource.bindPoolMetrics(dataSource, registry);
+        QuartzSchedulerProperties.Datasource datasource = properties.getDatasource();
+        if (!datasource.isDedicated()) {
+            return SchedulerDataSource.shared(dataSource, transactionManager);
+        }
+
+        return SchedulerDataSource.dedicated(datasource.getUrl(), datasource.getUsername(), datasource.getPassword(),
+            datasource.getDriverClassName(), datasource.getMaximumPoolSize(), datasource.getConnectionTimeout(),
+            registry);
+    }
+
+    /**
+     * Creates the resolver of the database dialect of the Quartz tables. A dialect set with
+     * spring.cloud.dataflow.scheduler.quartz.database-dialect is used without a database round trip;
+     * otherwise it is detected once from the connection metadata.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param properties The scheduler properties, giving the configured dialect if any
+     * @return A configured DatabaseDialectResolver
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DatabaseDialectResolver databaseDialectResolver(
+            SchedulerDataSource schedulerDataSource,
+            QuartzSchedulerProperties properties) {
+        return new DatabaseDialectResolver(schedulerDataSource.getDataSource(), properties.getDatabaseDialect());
+    }
+
+    /**
+     * Creates the migrator of the Quartz schema and brings the schema up to date, once per cluster.
+     * Disabled with spring.cloud.dataflow.scheduler.quartz.auto-create-tables=false, in which case
+     * the tables must be created from the scripts under schema/ beforehand.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param dialectResolver The resolver of the database dialect
+     * @return A SchemaMigrator that has applied all pending scripts
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.auto-create-tables", havingValue = "true", matchIfMissing = true)
+    public SchemaMigrator quartzSchemaMigrator(SchedulerDataSource schedulerDataSource,
+                                               DatabaseDialectResolver dialectResolver) {
+        SchemaMigrator migrator = new SchemaMigrator(schedulerDataSource.getDataSource(),
+            dialectResolver.getDialect(), TABLE_PREFIX);
+        migrator.migrate();
+        return migrator;
+    }
+
     /**
      * Configures the Quartz SchedulerFactoryBean with database persistence and transaction support.
      * This bean is responsible for creating and managing the Quartz Scheduler instance.
      *
-     * @param dataSource The datasource for Quartz job store
-     * @param transactionManager The transaction manager for Quartz operations
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param dialectResolver The resolver of the database dialect
+     * @param schemaMigrator The schema migrator, which must complete before Quartz starts
      * @param beanFactory The bean factory for autowiring Quartz jobs
+     * @param meterRegistry The registry for trigger metrics, the global registry if none is available
+     * @param properties The Quartz tuning properties, also telling whether stateless jobs reuse a single instance
      * @return A configured SchedulerFactoryBean
      * @throws IllegalStateException if database type detection fails or unsupported database is used
      */
     @Bean
     @Lazy(false)
     public SchedulerFactoryBean schedulerFactoryBean(
-            DataSource dataSource,
-            PlatformTransactionManager transactionManager,
-            AutowireCapableBeanFactory beanFactory) {
+            SchedulerDataSource schedulerDataSource,
+            DatabaseDialectResolver dialectResolver,
+            ObjectProvider<SchemaMigrator> schemaMigrator,
+            AutowireCapableBeanFactory beanFactory,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
         
+        // Resolving the migrator applies pending migrations before Quartz touches its tables
+        schemaMigrator.getIfAvailable();
+
         SchedulerFactoryBean factoryBean = new SchedulerFactoryBean();
-        factoryBean.setSchedulerName("spring-cloud-dataflow-scheduler");
-        factoryBean.setDataSource(dataSource);
-        factoryBean.setTransactionManager(transactionManager);
+        factoryBean.setSchedulerName(SCHEDULER_NAME);
+        if (!schedulerDataSource.isDedicated()) {
+            // Quartz joins Spring-managed transactions on Data Flow's datasource
+            factoryBean.setDataSource(schedulerDataSource.getDataSource());
+            factoryBean.setTransactionManager(schedulerDataSource.getTransactionManager());
+        }
         factoryBean.setWaitForJobsToCompleteOnShutdown(true);
         factoryBean.setAutoStartup(true);
         
         // Configure Quartz properties
         Properties quartzProperties = new Properties();
         quartzProperties.setProperty("org.quartz.jobStore.useProperties", "true");
+        if (schedulerDataSource.isDedicated()) {
+            // Quartz manages its own transactions on the dedicated pool
+            schedulerDataSource.registerConnectionProvider(SchedulerDataSource.POOL_NAME);
+            quartzProperties.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+            quartzProperties.setProperty("org.quartz.jobStore.dataSource", SchedulerDataSource.POOL_NAME);
+        }
         
-        // Detect database type and set appropriate delegate
-        try {
-            String url = dataSource.getConnection().getMetaData().getURL().toLowerCase();
-            if (url.contains("postgresql")) {
-                // PostgreSQL-specific delegate
-                quartzProperties.setProperty("org.quartz.jobStore.driverDelegateClass", 
-                    "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
-            } else if (url.contains("mysql") || url.contains("mariadb")) {
-                // MySQL/MariaDB delegate
-                quartzProperties.setProperty("org.quartz.jobStore.driverDelegateClass", 
-                    "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+        // Set the delegate of the configured or detected database
+        DatabaseDialect dialect = dialectResolver.getDialect();
+        quartzProperties.setProperty("org.quartz.jobStore.driverDelegateClass", dialect.getDelegateClass());
+
+        // Lock the cluster with PostgreSQL advisory locks instead of QRTZ_LOCKS rows
+        if (properties.isAdvisoryLocks() && properties.isClustered()) {
+            if (dialect == DatabaseDialect.POSTGRESQL) {
+                AdvisoryLockSemaphore.bind(SCHEDULER_NAME, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                    schedulerDataSource::evictConnection);
+                quartzProperties.setProperty("org.quartz.jobStore.lockHandler.class", AdvisoryLockSemaphore.class.getName());
             } else {
-                throw new IllegalStateException("Unsupported database type. Only PostgreSQL, MySQL, and MariaDB are supported.");
+                logger.warn("Advisory locks require PostgreSQL, locking the QRTZ_LOCKS table on {}", dialect);
             }
-        } catch (SQLException e) {
-            throw new IllegalStateException("Failed to detect database type", e);
         }
         
         // Set common Quartz properties
-        quartzProperties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
-        quartzProperties.setProperty("org.quartz.scheduler.instanceName", "spring-cloud-dataflow-scheduler");
+        quartzProperties.setProperty("org.quartz.jobStore.tablePrefix", TABLE_PREFIX);
+        quartzProperties.setProperty("org.quartz.scheduler.instanceName", SCHEDULER_NAME);
         quartzProperties.setProperty("org.quartz.scheduler.instanceId", "AUTO");
+        // Cancel hanging launches instead of waiting for them on shutdown
+        quartzProperties.setProperty("org.quartz.scheduler.interruptJobsOnShutdownWithWait", "true");
+
+        // Thread pool, trigger acquisition, misfire and clustering settings
+        if (properties.getVirtualThreads().isEnabled() && !properties.usesVirtualThreads()) {
+            logger.warn("Virtual threads require Java 21 or later, using the platform thread pool");
+        }
+        quartzProperties.putAll(properties.toQuartzProperties());
+        logger.info("Quartz tuning: {}", properties);
         factoryBean.setQuartzProperties(quartzProperties);
         
         // Configure job factory for Spring dependency injection
         AutowiringSpringBeanJobFactory jobFactory = new AutowiringSpringBeanJobFactory(beanFactory);
+        jobFactory.setSharedInstances(properties.isSharedJobInstances());
         factoryBean.setJobFactory(jobFactory);
+
+        // Count misfires by misfire policy
+        factoryBean.setGlobalTriggerListeners(
+            new MisfireMetricsListener(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
         
         return factoryBean;
     }
 
+    /**
+     * Creates the repository used to read all schedules from the Quartz tables in bulk.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param dialectResolver The resolver of the database dialect
+     * @return A configured QuartzScheduleRepository
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public QuartzScheduleRepository quartzScheduleRepository(SchedulerDataSource schedulerDataSource,
+                                                             DatabaseDialectResolver dialectResolver) {
+        return new QuartzScheduleRepository(schedulerDataSource.getDataSource(), TABLE_PREFIX, SCHEDULER_NAME,
+            dialectResolver.getDialect());
+    }
+
+    /**
+     * Creates the repository holding the cluster-wide schedule change version.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param schemaMigrator The schema migrator, which creates the version table first
+     * @return A configured ScheduleVersionRepository
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public ScheduleVersionRepository scheduleVersionRepository(
+            SchedulerDataSource schedulerDataSource,
+            ObjectProvider<SchemaMigrator> schemaMigrator) {
+        schemaMigrator.getIfAvailable();
+        return new ScheduleVersionRepository(schedulerDataSource.getDataSource(), TABLE_PREFIX, SCHEDULER_NAME);
+    }
+
+    /**
+     * Creates the in-memory cache serving schedule listings.
+     *
+     * @param versionRepository The repository holding the cluster-wide change version
+     * @param meterRegistry The registry for cache metrics, the global registry if none is available
+     * @param properties The scheduler properties, giving the cache size and version check interval
+     * @return A configured ScheduleInfoCache
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public ScheduleInfoCache scheduleInfoCache(
+            ScheduleVersionRepository versionRepository,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
+        QuartzSchedulerProperties.Cache cache = properties.getCache();
+        return new ScheduleInfoCache(versionRepository, cache.getMaxSize(), cache.getVersionCheckInterval(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Creates the dispatcher that launches fired tasks on dedicated launch threads,
+     * so Quartz worker threads return as soon as a launch is queued.
+     * Can be disabled with spring.cloud.dataflow.scheduler.quartz.launch.async=false.
+     *
+     * @param meterRegistry The registry for launch metrics, the global registry if none is available
+     * @param properties The scheduler properties, giving the launch threads, queue and backpressure policy
+     * @return A configured TaskLaunchDispatcher
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.launch.async", havingValue = "true", matchIfMissing = true)
+    public TaskLaunchDispatcher taskLaunchDispatcher(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
+        QuartzSchedulerProperties.Launch launch = properties.getLaunch();
+        return new TaskLaunchDispatcher(launch.getThreads(), launch.getQueueCapacity(), launch.getBackpressure(),
+            launch.getDeferDelay(), launch.getReserved().getThreads(), launch.getReserved().getMinPriority(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Creates the watchdog bounding each task launch call by the launch timeout and reporting stuck launches.
+     * Can be disabled with spring.cloud.dataflow.scheduler.quartz.launch.timeout.enabled=false.
+     *
+     * @param meterRegistry The registry for watchdog metrics, the global registry if none is available
+     * @param properties The scheduler properties, giving the launch timeout and check interval
+     * @return A configured LaunchWatchdog
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.launch.timeout.enabled", havingValue = "true", matchIfMissing = true)
+    public LaunchWatchdog launchWatchdog(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
+        QuartzSchedulerProperties.Launch.Timeout timeout = properties.getLaunch().getTimeout();
+        return new LaunchWatchdog(timeout.getDuration(), timeout.getCheckInterval(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Creates the cached view of running task executions used to enforce per-schedule concurrency policies.
+     *
+     * @param taskExplorer The explorer of the task repository
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param properties The scheduler properties, giving the time after which running executions are read again
+     * @return A configured RunningTaskExecutions view
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RunningTaskExecutions runningTaskExecutions(
+            TaskExplorer taskExplorer,
+            SchedulerDataSource schedulerDataSource,
+            QuartzSchedulerProperties properties) {
+        return new RunningTaskExecutions(taskExplorer, schedulerDataSource.getDataSource(), TABLE_PREFIX,
+            SCHEDULER_NAME, properties.getLaunch().getRunningExecutionsTtl());
+    }
+
+    /**
+     * Creates the cluster-wide launch admission control, coordinated through the Quartz database.
+     * Enabled with spring.cloud.dataflow.scheduler.quartz.launch.rate-limit.enabled=true.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param meterRegistry The registry for admission metrics, the global registry if none is available
+     * @param schemaMigrator The schema migrator, which creates the budget tables first
+     * @param properties The scheduler properties, giving the launch budget
+     * @return A configured LaunchRateLimiter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.launch.rate-limit.enabled", havingValue = "true")
+    public LaunchRateLimiter launchRateLimiter(
+            SchedulerDataSource schedulerDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<SchemaMigrator> schemaMigrator,
+            QuartzSchedulerProperties properties) {
+        schemaMigrator.getIfAvailable();
+        QuartzSchedulerProperties.Launch.RateLimit rateLimit = properties.getLaunch().getRateLimit();
+        LaunchRateLimiter rateLimiter = new LaunchRateLimiter(schedulerDataSource.getDataSource(), TABLE_PREFIX,
+            SCHEDULER_NAME, LaunchRateLimiter.LAUNCH_BUCKET, rateLimit.getLaunchesPerSecond(),
+            rateLimit.getMaxInFlight(), rateLimit.getLeaseTimeout(), rateLimit.getDeferDelay(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        rateLimiter.initialize();
+        return rateLimiter;
+    }
+
+    /**
+     * Creates the cluster-wide cap on the rate of misfire recovery fires, so that schedules
+     * recovering from downtime don't all launch at once.
+     * A recovery rate of 0 or less disables the cap.
+     *
+     * @param schedulerDataSource The datasource holding the Quartz tables
+     * @param meterRegistry The registry for admission metrics, the global registry if none is available
+     * @param schemaMigrator The schema migrator, which creates the budget tables first
+     * @param properties The scheduler properties, giving the recovery rate and defer delay
+     * @return A configured MisfireRecovery
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MisfireRecovery misfireRecovery(
+            SchedulerDataSource schedulerDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<SchemaMigrator> schemaMigrator,
+            QuartzSchedulerProperties properties) {
+        QuartzSchedulerProperties.Misfire misfire = properties.getMisfire();
+        if (misfire.getRecoveryRate() <= 0) {
+            return new MisfireRecovery(null);
+        }
+        schemaMigrator.getIfAvailable();
+        LaunchRateLimiter recoveryBudget = new LaunchRateLimiter(schedulerDataSource.getDataSource(), TABLE_PREFIX,
+            SCHEDULER_NAME, MisfireRecovery.RECOVERY_BUCKET, misfire.getRecoveryRate(), 0, Duration.ZERO,
+            misfire.getRecoveryDeferDelay(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        recoveryBudget.initialize();
+        return new MisfireRecovery(recoveryBudget);
+    }
+
+    /**
+     * Creates the forecaster of schedule fires, which also publishes the number of fires
+     * expected within the next five minutes as a gauge, refreshed in the background.
+     *
+     * @param scheduleRepository The repository for bulk schedule reads
+     * @param schemaMigrator The schema migrator, which creates the Quartz tables before the first refresh
+     * @param meterRegistry The registry for the expected fires gauge, the global registry if none is available
+     * @param properties The scheduler properties, giving the peak threshold and gauge refresh interval
+     * @return A configured ScheduleForecaster
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public ScheduleForecaster scheduleForecaster(
+            QuartzScheduleRepository scheduleRepository,
+            ObjectProvider<SchemaMigrator> schemaMigrator,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            QuartzSchedulerProperties properties) {
+        schemaMigrator.getIfAvailable();
+        QuartzSchedulerProperties.Forecast forecast = properties.getForecast();
+        return new ScheduleForecaster(scheduleRepository, forecast.getPeakThreshold(), forecast.getGaugeRefreshInterval(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
     /**
      * Creates the Quartz Scheduler implementation for Spring Cloud Data Flow.
      *
      * @param schedulerFactoryBean The factory bean that creates the Quartz Scheduler
+     * @param schedulerDataSource The datasource holding the Quartz tables, whose managed transactions schedule moves use
+     * @param scheduleRepository The repository for bulk schedule reads
+     * @param scheduleCache The cache serving schedule listings, if enabled
+     * @param properties The scheduler properties, giving the batch size and the defaults of schedules
      * @return A configured QuartzScheduler instance
      */
     @Primary
     @Bean(name = "quartzScheduler")
-    public Scheduler quartzScheduler(SchedulerFactoryBean schedulerFactoryBean) {
-        return new QuartzScheduler(schedulerFactoryBean);
+    public QuartzScheduler quartzScheduler(SchedulerFactoryBean schedulerFactoryBean,
+                                           SchedulerDataSource schedulerDataSource,
+                                           QuartzScheduleRepository scheduleRepository,
+                                           ObjectProvider<ScheduleInfoCache> scheduleCache,
+                                           QuartzSchedulerProperties properties) {
+        QuartzScheduler quartzScheduler = new QuartzScheduler(schedulerFactoryBean, scheduleRepository);
+        quartzScheduler.setTransactionManager(schedulerDataSource.getTransactionManager());
+        quartzScheduler.setBatchSize(properties.getBatchSize());
+        quartzScheduler.setDefaultMisfirePolicy(properties.getMisfire().getPolicy());
+        quartzScheduler.setDefaultCatchUpLimit(properties.getMisfire().getCatchUpLimit());
+        quartzScheduler.setDefaultPriority(properties.getDefaultPriority());
+        scheduleCache.ifAvailable(quartzScheduler::setScheduleCache);
+        return quartzScheduler;
+    }
+
+    /**
+     * Migrates schedules stored in Quartz's DEFAULT group by earlier versions into
+     * the group of their task definition once the application has started.
+     * A failed migration is logged and does not fail the startup; unmigrated schedules keep firing
+     * from the DEFAULT group and are migrated on the next start. Can be disabled with spring.cloud.dataflow.scheduler.quartz.migrate-default-group=false.
+     *
+     * @param quartzScheduler The scheduler performing the migration
+     * @return An ApplicationRunner running the migration
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.migrate-default-group", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner quartzScheduleGroupMigration(QuartzScheduler quartzScheduler) {
+        return args -> {
+            try {
+                int migrated = quartzScheduler.migrateDefaultGroup();
+                if (migrated > 0) {
+                    logger.info("Migrated {} schedules from the DEFAULT group", migrated);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to migrate schedules from the DEFAULT group", e);
+            }
+        };
     }
     
     /**
@@ -217,4 +585,18 @@ public class QuartzSchedulerAutoConfiguration {
             }
         };
     }
-} 
\ No newline at end of file
+
+    /**
+     * Exposes the schedule fire forecast as an actuator endpoint if the actuator is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class ScheduleForecastEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ScheduleForecastEndpoint scheduleForecastEndpoint(ScheduleForecaster forecaster) {
+            return new ScheduleForecastEndpoint(forecaster);
+        }
+    }
+}
@@ -0,0 +1,1051 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.autoconfigure;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.SchedulerDataSource;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.BackpressurePolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.MisfirePolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.VirtualThreadPool;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Scheduler properties under {@code spring.cloud.dataflow.scheduler.quartz}: Quartz tuning of worker
+ * threads, trigger acquisition, misfire detection and clustering, and the settings of the Quartz
+ * datasource, the schedule cache, task launches, misfire recovery and the fire forecast.
+ *
+ * <p>A {@link Size} preset provides the defaults of all tuning values; each value set explicitly
+ * overrides its preset value. The effective values are validated on startup, so that an
+ * inconsistent combination, e.g. a trigger acquisition batch larger than the number of worker
+ * threads, or a dedicated connection pool smaller than the number of concurrent fires, fails fast
+ * instead of degrading throughput.
+ *
+ * @see QuartzSchedulerAutoConfiguration
+ */
+@ConfigurationProperties(prefix = "spring.cloud.dataflow.scheduler.quartz")
+public class QuartzSchedulerProperties implements InitializingBean {
+
+    /**
+     * Tuning presets, by expected number of schedules and fires per second.
+     */
+    public enum Size {
+
+        /**
+         * Quartz defaults with 10 worker threads: triggers are acquired one at a time.
+         */
+        SMALL(10, 1, Duration.ZERO, false, Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofMillis(7500)),
+
+        /**
+         * Thousands of schedules: 25 worker threads acquiring triggers in batches of 10.
+         */
+        MEDIUM(25, 10, Duration.ofMillis(500), true, Duration.ofSeconds(10), Duration.ofSeconds(60),
+            Duration.ofMillis(7500)),
+
+        /**
+         * Tens of thousands of schedules: 50 worker threads acquiring triggers in batches of 25.
+         */
+        LARGE(50, 25, Duration.ofSeconds(1), true, Duration.ofSeconds(5), Duration.ofSeconds(60),
+            Duration.ofSeconds(5));
+
+        private final int threadCount;
+        private final int batchTriggerAcquisitionMaxCount;
+        private final Duration batchTriggerAcquisitionFireAheadTimeWindow;
+        private final boolean acquireTriggersWithinLock;
+        private final Duration idleWaitTime;
+        private final Duration misfireThreshold;
+        private final Duration clusterCheckinInterval;
+
+        Size(int threadCount, int batchTriggerAcquisitionMaxCount, Duration batchTriggerAcquisitionFireAheadTimeWindow,
+             boolean acquireTriggersWithinLock, Duration idleWaitTime, Duration misfireThreshold,
+             Duration clusterCheckinInterval) {
+            this.threadCount = threadCount;
+            this.batchTriggerAcquisitionMaxCount = batchTriggerAcquisitionMaxCount;
+            this.batchTriggerAcquisitionFireAheadTimeWindow = batchTriggerAcquisitionFireAheadTimeWindow;
+            this.acquireTriggersWithinLock = acquireTriggersWithinLock;
+            this.idleWaitTime = idleWaitTime;
+            this.misfireThreshold = misfireThreshold;
+            this.clusterCheckinInterval = clusterCheckinInterval;
+        }
+    }
+
+    /**
+     * Tuning preset providing the defaults of the values below.
+     */
+    private Size size = Size.SMALL;
+
+    /**
+     * Number of Quartz worker threads. Defaults to the preset value.
+     */
+    private Integer threadCount;
+
+    /**
+     * Maximum number of triggers acquired per scheduler loop, at most the fire concurrency.
+     * Defaults to the preset value.
+     */
+    private Integer batchTriggerAcquisitionMaxCount;
+
+    /**
+     * How far ahead of their fire time triggers may be acquired together with the next trigger.
+     * Defaults to the preset value.
+     */
+    private Duration batchTriggerAcquisitionFireAheadTimeWindow;
+
+    /**
+     * Whether triggers are acquired while holding the trigger lock. Quartz always holds it for
+     * batches of more than one trigger. Defaults to the preset value.
+     */
+    private Boolean acquireTriggersWithinLock;
+
+    /**
+     * Time the scheduler waits before polling for triggers again when none are due.
+     * Defaults to the preset value.
+     */
+    private Duration idleWaitTime;
+
+    /**
+     * Delay after its fire time from which a trigger counts as misfired. Defaults to the preset value.
+     */
+    private Duration misfireThreshold;
+
+    /**
+     * Whether the Quartz tables are shared by several scheduler nodes.
+     */
+    private boolean clustered;
+
+    /**
+     * Interval at which a clustered node checks in, and detects failed nodes.
+     * Defaults to the preset value.
+     */
+    private Duration clusterCheckinInterval;
+
+    /**
+     * Whether a PostgreSQL cluster locks with advisory locks instead of rows of the QRTZ_LOCKS table.
+     * All nodes of the cluster must use the same setting.
+     */
+    private boolean advisoryLocks;
+
+    /**
+     * Database of the Quartz tables: postgresql, mysql, mariadb, h2 or hsqldb.
+     * Detected from the connection metadata if not set.
+     */
+    private DatabaseDialect databaseDialect;
+
+    /**
+     * Whether the Quartz tables are created and upgraded on startup.
+     */
+    private boolean autoCreateTables = true;
+
+    /**
+     * Whether schedules stored in the DEFAULT group by earlier versions are moved into the group
+     * of their task definition on startup.
+     */
+    private boolean migrateDefaultGroup = true;
+
+    /**
+     * Whether stateless jobs reuse a single instance across fires instead of being created per fire.
+     */
+    private boolean sharedJobInstances = true;
+
+    /**
+     * Number of schedules written per JobStore transaction by batch operations.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Trigger priority of schedules that don't specify one.
+     */
+    private int defaultPriority = 5;
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Datasource datasource = new Datasource();
+
+    private final Cache cache = new Cache();
+
+    private final Launch launch = new Launch();
+
+    private final Misfire misfire = new Misfire();
+
+    private final Forecast forecast = new Forecast();
+
+    /**
+     * Applies the preset to the values that are not set and validates the result.
+     *
+     * @throws IllegalArgumentException if a value is out of range or inconsistent with another one
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (threadCount == null) threadCount = size.threadCount;
+        if (batchTriggerAcquisitionMaxCount == null) batchTriggerAcquisitionMaxCount = size.batchTriggerAcquisitionMaxCount;
+        if (batchTriggerAcquisitionFireAheadTimeWindow == null) {
+            batchTriggerAcquisitionFireAheadTimeWindow = size.batchTriggerAcquisitionFireAheadTimeWindow;
+        }
+        if (acquireTriggersWithinLock == null) acquireTriggersWithinLock = size.acquireTriggersWithinLock;
+        if (idleWaitTime == null) idleWaitTime = size.idleWaitTime;
+        if (misfireThreshold == null) misfireThreshold = size.misfireThreshold;
+        if (clusterCheckinInterval == null) clusterCheckinInterval = size.clusterCheckinInterval;
+        // A dedicated pool is sized for the number of concurrent fires unless a size is set
+        if (datasource.maximumPoolSize == 0) {
+            datasource.maximumPoolSize = SchedulerDataSource.recommendedPoolSize(getFireConcurrency());
+        }
+        validate();
+    }
+
+    private void validate() {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Quartz thread count must be positive: " + threadCount);
+        }
+        if (virtualThreads.maxConcurrency < 1) {
+            throw new IllegalArgumentException("Virtual thread max concurrency must be positive: "
+                + virtualThreads.maxConcurrency);
+        }
+        if (batchTriggerAcquisitionMaxCount < 1 || batchTriggerAcquisitionMaxCount > getFireConcurrency()) {
+            throw new IllegalArgumentException("Batch trigger acquisition max count must be between 1 and the fire "
+                + "concurrency " + getFireConcurrency() + ": " + batchTriggerAcquisitionMaxCount);
+        }
+        if (batchTriggerAcquisitionFireAheadTimeWindow.isNegative()) {
+            throw new IllegalArgumentException("Batch trigger acquisition fire-ahead time window must not be negative: "
+                + batchTriggerAcquisitionFireAheadTimeWindow);
+        }
+        if (batchTriggerAcquisitionFireAheadTimeWindow.compareTo(idleWaitTime) >= 0) {
+            throw new IllegalArgumentException("Batch trigger acquisition fire-ahead time window must be shorter than "
+                + "the idle wait time " + idleWaitTime + ": " + batchTriggerAcquisitionFireAheadTimeWindow);
+        }
+        if (idleWaitTime.toMillis() < 1) {
+            throw new IllegalArgumentException("Idle wait time must be positive: " + idleWaitTime);
+        }
+        if (misfireThreshold.toMillis() < 1) {
+            throw new IllegalArgumentException("Misfire threshold must be positive: " + misfireThreshold);
+        }
+        if (clusterCheckinInterval.toMillis() < 1) {
+            throw new IllegalArgumentException("Cluster check-in interval must be positive: " + clusterCheckinInterval);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        validateDatasource();
+        validateCache();
+        validateLaunch();
+        validateMisfire();
+        validateForecast();
+    }
+
+    private void validateDatasource() {
+        if (!datasource.isDedicated()) return;
+
+        // Every firing worker holds a connection, so a smaller pool makes fires wait for connections
+        int recommendedPoolSize = SchedulerDataSource.recommendedPoolSize(getFireConcurrency());
+        if (datasource.maximumPoolSize < recommendedPoolSize) {
+            throw new IllegalArgumentException("Datasource maximum pool size must be at least " + recommendedPoolSize
+                + " for the fire concurrency " + getFireConcurrency() + ": " + datasource.maximumPoolSize);
+        }
+        if (datasource.connectionTimeout.toMillis() < 1) {
+            throw new IllegalArgumentException("Datasource connection timeout must be positive: "
+                + datasource.connectionTimeout);
+        }
+    }
+
+    private void validateCache() {
+        if (cache.maxSize < 1) {
+            throw new IllegalArgumentException("Cache max size must be positive: " + cache.maxSize);
+        }
+        if (cache.versionCheckInterval.isNegative()) {
+            throw new IllegalArgumentException("Cache version check interval must not be negative: "
+                + cache.versionCheckInterval);
+        }
+    }
+
+    private void validateLaunch() {
+        if (launch.threads < 1) {
+            throw new IllegalArgumentException("Launch threads must be positive: " + launch.threads);
+        }
+        if (launch.queueCapacity < 1) {
+            throw new IllegalArgumentException("Launch queue capacity must be positive: " + launch.queueCapacity);
+        }
+        if (launch.deferDelay.toMillis() < 1) {
+            throw new IllegalArgumentException("Launch defer delay must be positive: " + launch.deferDelay);
+        }
+        if (launch.reserved.threads < 0) {
+            throw new IllegalArgumentException("Reserved launch threads must not be negative: " + launch.reserved.threads);
+        }
+        if (launch.runningExecutionsTtl.isNegative()) {
+            throw new IllegalArgumentException("Running executions TTL must not be negative: "
+                + launch.runningExecutionsTtl);
+        }
+        Launch.Timeout timeout = launch.timeout;
+        if (timeout.enabled) {
+            if (timeout.duration.toMillis() < 1) {
+                throw new IllegalArgumentException("Launch timeout must be positive: " + timeout.duration);
+            }
+            if (timeout.checkInterval.toMillis() < 1 || timeout.checkInterval.compareTo(timeout.duration) > 0) {
+                throw new IllegalArgumentException("Launch timeout check interval must be between 1ms and the launch "
+                    + "timeout " + timeout.duration + ": " + timeout.checkInterval);
+            }
+        }
+        Launch.RateLimit rateLimit = launch.rateLimit;
+        if (rateLimit.enabled) {
+            if (rateLimit.launchesPerSecond < 1) {
+                throw new IllegalArgumentException("Launches per second must be positive: " + rateLimit.launchesPerSecond);
+            }
+            if (rateLimit.maxInFlight < 1) {
+                throw new IllegalArgumentException("Max launches in flight must be positive: " + rateLimit.maxInFlight);
+            }
+            if (rateLimit.deferDelay.toMillis() < 1) {
+                throw new IllegalArgumentException("Rate limit defer delay must be positive: " + rateLimit.deferDelay);
+            }
+            if (rateLimit.leaseTimeout.toMillis() < 1) {
+                throw new IllegalArgumentException("Rate limit lease timeout must be positive: " + rateLimit.leaseTimeout);
+            }
+            // A lease expiring while its launch call still runs admits launches beyond max-in-flight
+            if (timeout.enabled && rateLimit.leaseTimeout.compareTo(timeout.duration) <= 0) {
+                throw new IllegalArgumentException("Rate limit lease timeout must be longer than the launch timeout "
+                    + timeout.duration + ": " + rateLimit.leaseTimeout);
+            }
+        }
+    }
+
+    private void validateMisfire() {
+        if (misfire.catchUpLimit < 1) {
+            throw new IllegalArgumentException("Misfire catch-up limit must be positive: " + misfire.catchUpLimit);
+        }
+        if (misfire.recoveryRate > 0 && misfire.recoveryDeferDelay.toMillis() < 1) {
+            throw new IllegalArgumentException("Misfire recovery defer delay must be positive: "
+                + misfire.recoveryDeferDelay);
+        }
+    }
+
+    private void validateForecast() {
+        if (forecast.peakThreshold < 1) {
+            throw new IllegalArgumentException("Forecast peak threshold must be positive: " + forecast.peakThreshold);
+        }
+        if (forecast.gaugeRefreshInterval.toMillis() < 1) {
+            throw new IllegalArgumentException("Forecast gauge refresh interval must be positive: "
+                + forecast.gaugeRefreshInterval);
+        }
+    }
+
+    /**
+     * Returns the maximum number of concurrent fires: the virtual thread concurrency when fires run
+     * on virtual threads, the number of worker threads otherwise.
+     *
+     * @return The fire concurrency
+     */
+    public int getFireConcurrency() {
+        return usesVirtualThreads() ? virtualThreads.maxConcurrency : threadCount;
+    }
+
+    /**
+     * Checks whether fires run on virtual threads, i.e. they are enabled and supported by the JVM.
+     *
+     * @return true if fires run on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads.enabled && VirtualThreadPool.isSupported();
+    }
+
+    /**
+     * Returns the Quartz properties for the effective tuning values.
+     *
+     * @return The thread pool, trigger acquisition, misfire and clustering properties
+     */
+    public Properties toQuartzProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+        if (usesVirtualThreads()) {
+            properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+            properties.setProperty("org.quartz.threadPool.maxConcurrency", String.valueOf(virtualThreads.maxConcurrency));
+        }
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount",
+            String.valueOf(batchTriggerAcquisitionMaxCount));
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow",
+            String.valueOf(batchTriggerAcquisitionFireAheadTimeWindow.toMillis()));
+        properties.setProperty("org.quartz.scheduler.idleWaitTime", String.valueOf(idleWaitTime.toMillis()));
+        properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", String.valueOf(acquireTriggersWithinLock));
+        properties.setProperty("org.quartz.jobStore.misfireThreshold", String.valueOf(misfireThreshold.toMillis()));
+        properties.setProperty("org.quartz.jobStore.isClustered", String.valueOf(clustered));
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", String.valueOf(clusterCheckinInterval.toMillis()));
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size
+            + ", threadCount=" + threadCount
+            + ", virtualThreads=" + usesVirtualThreads() + (usesVirtualThreads() ? " (max " + virtualThreads.maxConcurrency + ")" : "")
+            + ", batchTriggerAcquisitionMaxCount=" + batchTriggerAcquisitionMaxCount
+            + ", batchTriggerAcquisitionFireAheadTimeWindow=" + batchTriggerAcquisitionFireAheadTimeWindow.toMillis() + "ms"
+            + ", acquireTriggersWithinLock=" + acquireTriggersWithinLock
+            + ", idleWaitTime=" + idleWaitTime.toMillis() + "ms"
+            + ", misfireThreshold=" + misfireThreshold.toMillis() + "ms"
+            + ", clustered=" + clustered
+            + (clustered ? ", clusterCheckinInterval=" + clusterCheckinInterval.toMillis() + "ms" : "")
+            + (clustered ? ", advisoryLocks=" + advisoryLocks : "");
+    }
+
+    public Size getSize() {
+        return size;
+    }
+
+    public void setSize(Size size) {
+        this.size = size;
+    }
+
+    public Integer getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(Integer threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public Integer getBatchTriggerAcquisitionMaxCount() {
+        return batchTriggerAcquisitionMaxCount;
+    }
+
+    public void setBatchTriggerAcquisitionMaxCount(Integer batchTriggerAcquisitionMaxCount) {
+        this.batchTriggerAcquisitionMaxCount = batchTriggerAcquisitionMaxCount;
+    }
+
+    public Duration getBatchTriggerAcquisitionFireAheadTimeWindow() {
+        return batchTriggerAcquisitionFireAheadTimeWindow;
+    }
+
+    public void setBatchTriggerAcquisitionFireAheadTimeWindow(Duration batchTriggerAcquisitionFireAheadTimeWindow) {
+        this.batchTriggerAcquisitionFireAheadTimeWindow = batchTriggerAcquisitionFireAheadTimeWindow;
+    }
+
+    public Boolean getAcquireTriggersWithinLock() {
+        return acquireTriggersWithinLock;
+    }
+
+    public void setAcquireTriggersWithinLock(Boolean acquireTriggersWithinLock) {
+        this.acquireTriggersWithinLock = acquireTriggersWithinLock;
+    }
+
+    public Duration getIdleWaitTime() {
+        return idleWaitTime;
+    }
+
+    public void setIdleWaitTime(Duration idleWaitTime) {
+        this.idleWaitTime = idleWaitTime;
+    }
+
+    public Duration getMisfireThreshold() {
+        return misfireThreshold;
+    }
+
+    public void setMisfireThreshold(Duration misfireThreshold) {
+        this.misfireThreshold = misfireThreshold;
+    }
+
+    public boolean isClustered() {
+        return clustered;
+    }
+
+    public void setClustered(boolean clustered) {
+        this.clustered = clustered;
+    }
+
+    public Duration getClusterCheckinInterval() {
+        return clusterCheckinInterval;
+    }
+
+    public void setClusterCheckinInterval(Duration clusterCheckinInterval) {
+        this.clusterCheckinInterval = clusterCheckinInterval;
+    }
+
+    public boolean isAdvisoryLocks() {
+        return advisoryLocks;
+    }
+
+    public void setAdvisoryLocks(boolean advisoryLocks) {
+        this.advisoryLocks = advisoryLocks;
+    }
+
+    public DatabaseDialect getDatabaseDialect() {
+        return databaseDialect;
+    }
+
+    public void setDatabaseDialect(DatabaseDialect databaseDialect) {
+        this.databaseDialect = databaseDialect;
+    }
+
+    public boolean isAutoCreateTables() {
+        return autoCreateTables;
+    }
+
+    public void setAutoCreateTables(boolean autoCreateTables) {
+        this.autoCreateTables = autoCreateTables;
+    }
+
+    public boolean isMigrateDefaultGroup() {
+        return migrateDefaultGroup;
+    }
+
+    public void setMigrateDefaultGroup(boolean migrateDefaultGroup) {
+        this.migrateDefaultGroup = migrateDefaultGroup;
+    }
+
+    public boolean isSharedJobInstances() {
+        return sharedJobInstances;
+    }
+
+    public void setSharedJobInstances(boolean sharedJobInstances) {
+        this.sharedJobInstances = sharedJobInstances;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    public void setDefaultPriority(int defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Launch getLaunch() {
+        return launch;
+    }
+
+    public Misfire getMisfire() {
+        return misfire;
+    }
+
+    public Forecast getForecast() {
+        return forecast;
+    }
+
+    /**
+     * Virtual thread settings, under {@code virtual-threads}.
+     */
+    public static class VirtualThreads {
+
+        /**
+         * Whether fires run on virtual threads, if the JVM supports them (Java 21 or later).
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of concurrent fires on virtual threads.
+         */
+        private int maxConcurrency = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    /**
+     * Dedicated connection pool of the Quartz tables, under {@code datasource}.
+     * Without a URL, Quartz shares Data Flow's datasource.
+     */
+    public static class Datasource {
+
+        /**
+         * JDBC URL of the dedicated pool.
+         */
+        private String url;
+
+        /**
+         * Database user of the dedicated pool.
+         */
+        private String username;
+
+        /**
+         * Database password of the dedicated pool.
+         */
+        private String password;
+
+        /**
+         * JDBC driver class of the dedicated pool. Derived from the URL if not set.
+         */
+        private String driverClassName;
+
+        /**
+         * Maximum size of the dedicated pool, at least the fire concurrency plus the connections of
+         * Quartz housekeeping and the API. Derived from the fire concurrency if not set.
+         */
+        private int maximumPoolSize;
+
+        /**
+         * Maximum time to wait for a connection from the dedicated pool.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Checks whether the Quartz tables are accessed through a dedicated pool.
+         *
+         * @return true if a URL is set
+         */
+        public boolean isDedicated() {
+            return StringUtils.hasText(url);
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+
+    /**
+     * Schedule listing cache settings, under {@code cache}.
+     */
+    public static class Cache {
+
+        /**
+         * Whether schedule listings are served from memory.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached schedules.
+         */
+        private int maxSize = 100_000;
+
+        /**
+         * Minimum interval between two checks for changes made by other nodes.
+         */
+        private Duration versionCheckInterval = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getVersionCheckInterval() {
+            return versionCheckInterval;
+        }
+
+        public void setVersionCheckInterval(Duration versionCheckInterval) {
+            this.versionCheckInterval = versionCheckInterval;
+        }
+    }
+
+    /**
+     * Task launch settings, under {@code launch}.
+     */
+    public static class Launch {
+
+        /**
+         * Whether fired tasks are launched on dedicated launch threads instead of Quartz worker threads.
+         */
+        private boolean async = true;
+
+        /**
+         * Number of launch threads.
+         */
+        private int threads = 10;
+
+        /**
+         * Maximum number of launches waiting for a launch thread.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Behavior when the launch queue is full: BLOCK, SHED or DEFER.
+         */
+        private BackpressurePolicy backpressure = BackpressurePolicy.BLOCK;
+
+        /**
+         * Delay after which deferred launches are fired again.
+         */
+        private Duration deferDelay = Duration.ofSeconds(30);
+
+        /**
+         * Time after which the running executions of a schedule are read again.
+         */
+        private Duration runningExecutionsTtl = Duration.ofSeconds(5);
+
+        private final Reserved reserved = new Reserved();
+
+        private final Timeout timeout = new Timeout();
+
+        private final RateLimit rateLimit = new RateLimit();
+
+        public boolean isAsync() {
+            return async;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public BackpressurePolicy getBackpressure() {
+            return backpressure;
+        }
+
+        public void setBackpressure(BackpressurePolicy backpressure) {
+            this.backpressure = backpressure;
+        }
+
+        public Duration getDeferDelay() {
+            return deferDelay;
+        }
+
+        public void setDeferDelay(Duration deferDelay) {
+            this.deferDelay = deferDelay;
+        }
+
+        public Duration getRunningExecutionsTtl() {
+            return runningExecutionsTtl;
+        }
+
+        public void setRunningExecutionsTtl(Duration runningExecutionsTtl) {
+            this.runningExecutionsTtl = runningExecutionsTtl;
+        }
+
+        public Reserved getReserved() {
+            return reserved;
+        }
+
+        public Timeout getTimeout() {
+            return timeout;
+        }
+
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+
+        /**
+         * Launch threads reserved for high-priority launches, under {@code launch.reserved}.
+         */
+        public static class Reserved {
+
+            /**
+             * Number of additional launch threads reserved for high-priority launches.
+             */
+            private int threads;
+
+            /**
+             * Minimum trigger priority of launches that may use the reserved threads.
+             */
+            private int minPriority = 10;
+
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getMinPriority() {
+                return minPriority;
+            }
+
+            public void setMinPriority(int minPriority) {
+                this.minPriority = minPriority;
+            }
+        }
+
+        /**
+         * Launch call timeout, under {@code launch.timeout}.
+         */
+        public static class Timeout {
+
+            /**
+             * Whether launch calls are bounded by the launch timeout.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Maximum duration of a launch call.
+             */
+            private Duration duration = Duration.ofMinutes(5);
+
+            /**
+             * Interval between two checks for stuck launch calls, at most the launch timeout.
+             */
+            private Duration checkInterval = Duration.ofSeconds(30);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getDuration() {
+                return duration;
+            }
+
+            public void setDuration(Duration duration) {
+                this.duration = duration;
+            }
+
+            public Duration getCheckInterval() {
+                return checkInterval;
+            }
+
+            public void setCheckInterval(Duration checkInterval) {
+                this.checkInterval = checkInterval;
+            }
+        }
+
+        /**
+         * Cluster-wide launch admission control, under {@code launch.rate-limit}.
+         */
+        public static class RateLimit {
+
+            /**
+             * Whether launches are admitted against a cluster-wide budget.
+             */
+            private boolean enabled;
+
+            /**
+             * Maximum number of launches per second across the cluster.
+             */
+            private int launchesPerSecond = 10;
+
+            /**
+             * Maximum number of concurrent launch calls across the cluster.
+             */
+            private int maxInFlight = 50;
+
+            /**
+             * Time after which an unreleased launch no longer counts as in flight, longer than the launch timeout.
+             */
+            private Duration leaseTimeout = Duration.ofMinutes(10);
+
+            /**
+             * Base delay after which fires over budget are retried.
+             */
+            private Duration deferDelay = Duration.ofSeconds(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getLaunchesPerSecond() {
+                return launchesPerSecond;
+            }
+
+            public void setLaunchesPerSecond(int launchesPerSecond) {
+                this.launchesPerSecond = launchesPerSecond;
+            }
+
+            public int getMaxInFlight() {
+                return maxInFlight;
+            }
+
+            public void setMaxInFlight(int maxInFlight) {
+                this.maxInFlight = maxInFlight;
+            }
+
+            public Duration getLeaseTimeout() {
+                return leaseTimeout;
+            }
+
+            public void setLeaseTimeout(Duration leaseTimeout) {
+                this.leaseTimeout = leaseTimeout;
+            }
+
+            public Duration getDeferDelay() {
+                return deferDelay;
+            }
+
+            public void setDeferDelay(Duration deferDelay) {
+                this.deferDelay = deferDelay;
+            }
+        }
+    }
+
+    /**
+     * Misfire handling settings, under {@code misfire}.
+     */
+    public static class Misfire {
+
+        /**
+         * Misfire policy of schedules that don't specify one.
+         */
+        private MisfirePolicy policy = MisfirePolicy.FIRE_ONCE_NOW;
+
+        /**
+         * Maximum number of missed fires launched by the catch-up policy, if not specified per schedule.
+         */
+        private int catchUpLimit = 3;
+
+        /**
+         * Maximum number of misfire recovery fires per second across the cluster, 0 for no limit.
+         */
+        private int recoveryRate = 10;
+
+        /**
+         * Base delay after which recovery fires over budget are retried.
+         */
+        private Duration recoveryDeferDelay = Duration.ofSeconds(1);
+
+        public MisfirePolicy getPolicy() {
+            return policy;
+        }
+
+        public void setPolicy(MisfirePolicy policy) {
+            this.policy = policy;
+        }
+
+        public int getCatchUpLimit() {
+            return catchUpLimit;
+        }
+
+        public void setCatchUpLimit(int catchUpLimit) {
+            this.catchUpLimit = catchUpLimit;
+        }
+
+        public int getRecoveryRate() {
+            return recoveryRate;
+        }
+
+        public void setRecoveryRate(int recoveryRate) {
+            this.recoveryRate = recoveryRate;
+        }
+
+        public Duration getRecoveryDeferDelay() {
+            return recoveryDeferDelay;
+        }
+
+        public void setRecoveryDeferDelay(Duration recoveryDeferDelay) {
+            this.recoveryDeferDelay = recoveryDeferDelay;
+        }
+    }
+
+    /**
+     * Schedule fire forecast settings, under {@code forecast}.
+     */
+    public static class Forecast {
+
+        /**
+         * Number of fires per second above which a second is reported as a peak.
+         */
+        private int peakThreshold = 20;
+
+        /**
+         * Interval between two computations of the expected fires gauge.
+         */
+        private Duration gaugeRefreshInterval = Duration.ofSeconds(30);
+
+        public int getPeakThreshold() {
+            return peakThreshold;
+        }
+
+        public void setPeakThreshold(int peakThreshold) {
+            this.peakThreshold = peakThreshold;
+        }
+
+        public Duration getGaugeRefreshInterval() {
+            return gaugeRefreshInterval;
+        }
+
+        public void setGaugeRefreshInterval(Duration gaugeRefreshInterval) {
+            this.gaugeRefreshInterval = gaugeRefreshInterval;
+        }
+    }
+}
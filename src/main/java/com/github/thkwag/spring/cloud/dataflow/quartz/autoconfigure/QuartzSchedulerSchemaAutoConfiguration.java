@@ -3,23 +3,20 @@ package com.github.thkwag.spring.cloud.dataflow.quartz.autoconfigure;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.cloud.dataflow.server.config.features.SchedulerConfiguration;
-import org.springframework.context.annotation.Bean;
-import org.springframework.jdbc.datasource.init.DataSourceInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
-import javax.sql.DataSource;
 import javax.annotation.PostConstruct;
 
 /**
- * Auto-configuration class for initializing Quartz Scheduler database schema.
- * This class is responsible for managing the database schema initialization for Quartz Scheduler.
- * It defers the actual schema creation to Spring Boot's Quartz auto-configuration.
+ * Auto-configuration class for the Quartz Scheduler database schema.
+ * The schema itself is created and upgraded by the
+ * {@link com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.SchemaMigrator} bean of
+ * {@link QuartzSchedulerAutoConfiguration}, from the versioned scripts under {@code schema/}.
  *
  * <p>The configuration is activated when the following conditions are met:
  * <ul>
@@ -29,7 +26,7 @@ import javax.annotation.PostConstruct;
  *
  * <p>Key features:
  * <ul>
- *   <li>Delegates schema initialization to Spring Boot's Quartz auto-configuration</li>
+ *   <li>Versioned scripts with the Quartz tables, their indexes and the scheduler's own tables</li>
  *   <li>Supports both PostgreSQL and MySQL/MariaDB databases</li>
  *   <li>Configurable through spring.cloud.dataflow.scheduler.quartz.auto-create-tables property</li>
  * </ul>
@@ -75,30 +72,4 @@ public class QuartzSchedulerSchemaAutoConfiguration {
         logger.info("  - Database URL: {}", dataSourceProperties.getUrl());
         logger.info("  - Auto create tables: {}", autoCreateTables);
     }
-
-    /**
-     * Creates a DataSourceInitializer that defers schema initialization to Spring Boot's Quartz auto-configuration.
-     * The actual schema creation is handled by setting spring.quartz.jdbc.initialize-schema=always in the configuration.
-     *
-     * <p>This bean is only created when auto-create-tables is set to true (default behavior).
-     * The schema initialization is disabled here as it's handled by Spring Boot's Quartz auto-configuration.
-     *
-     * @param dataSource The datasource to be used for schema initialization
-     * @return A configured but disabled DataSourceInitializer
-     */
-    @Bean
-    @ConditionalOnProperty(name = "spring.cloud.dataflow.scheduler.quartz.auto-create-tables", havingValue = "true", matchIfMissing = true)
-    public DataSourceInitializer schedulerDataSourceInitializer(DataSource dataSource) {
-        logger.info("Initializing scheduler schema. Auto-create tables: {}", autoCreateTables);
-        
-        // Create DataSourceInitializer but disable it as schema initialization
-        // is handled by Spring Boot's Quartz auto-configuration through
-        // spring.quartz.jdbc.initialize-schema=always setting
-        DataSourceInitializer initializer = new DataSourceInitializer();
-        initializer.setDataSource(dataSource);
-        initializer.setEnabled(false);
-        
-        logger.info("Quartz schema initialization is handled by Spring Boot's Quartz auto-configuration");
-        return initializer;
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.forecast;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Expected schedule fires over a time window, computed by {@link ScheduleForecaster}.
+ *
+ * <p>The forecast contains the number of fires per minute, the seconds in which more fires
+ * than the peak threshold are expected, and the groups of schedules sharing a cron expression,
+ * together with suggested jitter windows (see {@code scheduler.cron.jitter}) that would keep
+ * them below the threshold.
+ */
+public class ScheduleForecast {
+
+    private final Instant from;
+    private final Instant to;
+    private final long totalFires;
+    private final int peakThreshold;
+    private final SortedMap<Instant, Integer> firesPerMinute;
+    private final List<Peak> peaks;
+    private final List<Collision> collisions;
+
+    ScheduleForecast(Instant from, Instant to, long totalFires, int peakThreshold,
+                     SortedMap<Instant, Integer> firesPerMinute, List<Peak> peaks, List<Collision> collisions) {
+        this.from = from;
+        this.to = to;
+        this.totalFires = totalFires;
+        this.peakThreshold = peakThreshold;
+        this.firesPerMinute = Collections.unmodifiableSortedMap(firesPerMinute);
+        this.peaks = Collections.unmodifiableList(peaks);
+        this.collisions = Collections.unmodifiableList(collisions);
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the number of fires expected in the window.
+     *
+     * @return The total number of fires
+     */
+    public long getTotalFires() {
+        return totalFires;
+    }
+
+    /**
+     * Returns the number of fires per second above which a second is reported as a peak.
+     *
+     * @return The peak threshold
+     */
+    public int getPeakThreshold() {
+        return peakThreshold;
+    }
+
+    /**
+     * Returns the number of expected fires per minute, keyed by the start of the minute.
+     * Minutes without fires are omitted.
+     *
+     * @return The fires per minute
+     */
+    public SortedMap<Instant, Integer> getFiresPerMinute() {
+        return firesPerMinute;
+    }
+
+    /**
+     * Returns the seconds with more fires than the peak threshold, busiest first.
+     *
+     * @return The peaks
+     */
+    public List<Peak> getPeaks() {
+        return peaks;
+    }
+
+    /**
+     * Returns the groups of schedules sharing a cron expression, largest first.
+     *
+     * @return The collisions
+     */
+    public List<Collision> getCollisions() {
+        return collisions;
+    }
+
+    /**
+     * A second with more fires than the peak threshold.
+     */
+    public static class Peak {
+
+        private final Instant time;
+        private final int fires;
+        private final List<String> cronExpressions;
+        private final String suggestedJitter;
+
+        Peak(Instant time, int fires, List<String> cronExpressions, String suggestedJitter) {
+            this.time = time;
+            this.fires = fires;
+            this.cronExpressions = Collections.unmodifiableList(cronExpressions);
+            this.suggestedJitter = suggestedJitter;
+        }
+
+        public Instant getTime() {
+            return time;
+        }
+
+        public int getFires() {
+            return fires;
+        }
+
+        /**
+         * Returns the cron expressions of the schedules firing in this second.
+         *
+         * @return The contributing cron expressions
+         */
+        public List<String> getCronExpressions() {
+            return cronExpressions;
+        }
+
+        /**
+         * Returns the jitter window that would spread this peak's fires below the threshold.
+         *
+         * @return The suggested jitter window, e.g. {@code 15s}
+         */
+        public String getSuggestedJitter() {
+            return suggestedJitter;
+        }
+    }
+
+    /**
+     * Schedules firing at the same times because they share a cron expression and time zone.
+     */
+    public static class Collision {
+
+        private final String cronExpression;
+        private final String timeZone;
+        private final int scheduleCount;
+        private final List<String> scheduleNames;
+        private final String suggestedJitter;
+
+        Collision(String cronExpression, String timeZone, int scheduleCount, List<String> scheduleNames,
+                  String suggestedJitter) {
+            this.cronExpression = cronExpression;
+            this.timeZone = timeZone;
+            this.scheduleCount = scheduleCount;
+            this.scheduleNames = Collections.unmodifiableList(scheduleNames);
+            this.suggestedJitter = suggestedJitter;
+        }
+
+        public String getCronExpression() {
+            return cronExpression;
+        }
+
+        public String getTimeZone() {
+            return timeZone;
+        }
+
+        public int getScheduleCount() {
+            return scheduleCount;
+        }
+
+        /**
+         * Returns the names of the colliding schedules, limited to a sample for large groups.
+         *
+         * @return The schedule names
+         */
+        public List<String> getScheduleNames() {
+            return scheduleNames;
+        }
+
+        /**
+         * Returns the jitter window that would spread this group's fires below the peak threshold.
+         *
+         * @return The suggested jitter window, or null if the group alone stays below the threshold
+         */
+        public String getSuggestedJitter() {
+            return suggestedJitter;
+        }
+    }
+}
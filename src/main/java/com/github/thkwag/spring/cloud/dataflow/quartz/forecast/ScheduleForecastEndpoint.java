@@ -0,0 +1,41 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.forecast;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint exposing the schedule fire forecast at {@code /actuator/scheduleforecast}.
+ * The forecast window is given in hours with the optional {@code hours} parameter.
+ *
+ * @see ScheduleForecaster
+ */
+@Endpoint(id = "scheduleforecast")
+public class ScheduleForecastEndpoint {
+
+    private static final int DEFAULT_HOURS = 24;
+
+    private final ScheduleForecaster forecaster;
+
+    /**
+     * Creates a new ScheduleForecastEndpoint.
+     *
+     * @param forecaster The forecaster computing the forecast
+     */
+    public ScheduleForecastEndpoint(ScheduleForecaster forecaster) {
+        this.forecaster = forecaster;
+    }
+
+    /**
+     * Forecasts the schedule fires over the next hours.
+     *
+     * @param hours The forecast window in hours, 24 if not given
+     * @return The forecast
+     */
+    @ReadOperation
+    public ScheduleForecast forecast(@Nullable Integer hours) {
+        return forecaster.forecast(Duration.ofHours(hours != null ? hours : DEFAULT_HOURS));
+    }
+}
@@ -0,0 +1,342 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.forecast;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduleRepository;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduler;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.ScheduleRecord;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.quartz.CronExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forecasts schedule fires from the cron triggers stored in the Quartz tables.
+ *
+ * <p>All schedules are streamed through a single cursor and their payloads are scanned for the
+ * jitter window only, so memory use grows with the number of distinct cron expressions rather
+ * than with the number of schedules. Schedules sharing a cron expression, time zone and jitter
+ * offset fire at the same instants, so fire times are computed once per such group and weighted
+ * by the group's size. The forecast reports fires per minute, the seconds exceeding the peak
+ * threshold and the colliding cron expressions, with jitter windows that would spread them below
+ * the threshold.
+ *
+ * <p>The number of fires expected within the next five minutes is published as the gauge
+ * {@code quartz.schedules.fires.expected} (tagged {@code window=5m}). It is recomputed on a
+ * background thread once per refresh interval, so scraping the gauge never queries the database.
+ *
+ * @see ScheduleForecast
+ * @see ScheduleForecastEndpoint
+ */
+public class ScheduleForecaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleForecaster.class);
+
+    // Longest forecast window, fire times are enumerated per second at most
+    private static final Duration MAX_HORIZON = Duration.ofDays(7);
+
+    private static final Duration GAUGE_WINDOW = Duration.ofMinutes(5);
+
+    private static final int MAX_PEAKS = 100;
+    private static final int MAX_COLLISIONS = 100;
+    private static final int MAX_SCHEDULE_NAMES = 20;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final QuartzScheduleRepository scheduleRepository;
+    private final int peakThreshold;
+    private final ScheduledExecutorService refreshExecutor;
+    private volatile long expectedFires;
+
+    /**
+     * Creates a new ScheduleForecaster and starts the periodic refresh of the expected fires gauge.
+     *
+     * @param scheduleRepository The repository for bulk schedule reads
+     * @param peakThreshold The number of fires per second above which a second is reported as a peak
+     * @param gaugeRefreshInterval The interval between two computations of the expected fires gauge
+     * @param meterRegistry The registry for the expected fires gauge
+     */
+    public ScheduleForecaster(QuartzScheduleRepository scheduleRepository, int peakThreshold,
+                              Duration gaugeRefreshInterval, MeterRegistry meterRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.peakThreshold = peakThreshold;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("quartz-forecast-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.refreshExecutor.scheduleWithFixedDelay(this::refreshExpectedFires,
+            0, gaugeRefreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("quartz.schedules.fires.expected", this, ScheduleForecaster::expectedFires)
+            .tag("window", "5m")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Forecasts the fires of all schedules from now until the end of the horizon.
+     *
+     * @param horizon The forecast window, at most seven days
+     * @return The forecast
+     * @throws IllegalArgumentException if the horizon is not positive or longer than seven days
+     */
+    public ScheduleForecast forecast(Duration horizon) {
+        if (horizon.isNegative() || horizon.isZero() || horizon.compareTo(MAX_HORIZON) > 0) {
+            throw new IllegalArgumentException("Forecast horizon must be between 1s and " + MAX_HORIZON + ": " + horizon);
+        }
+        Instant from = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant to = from.plus(horizon);
+        Map<FireGroup, GroupSchedules> groups = groupSchedules();
+
+        // Fires per epoch second; the fire seconds of each group are kept for the peak contributors
+        Map<FireGroup, long[]> groupSeconds = new HashMap<>();
+        Map<Long, Integer> firesPerSecond = new HashMap<>();
+        long totalFires = 0;
+        for (Map.Entry<FireGroup, GroupSchedules> group : groups.entrySet()) {
+            int size = group.getValue().count;
+            long[] seconds = group.getKey().fireSeconds(from, to);
+            groupSeconds.put(group.getKey(), seconds);
+            for (long second : seconds) {
+                firesPerSecond.merge(second, size, Integer::sum);
+            }
+            totalFires += (long) size * seconds.length;
+        }
+
+        TreeMap<Instant, Integer> firesPerMinute = new TreeMap<>();
+        for (Map.Entry<Long, Integer> second : firesPerSecond.entrySet()) {
+            firesPerMinute.merge(Instant.ofEpochSecond(second.getKey() - Math.floorMod(second.getKey(), 60L)),
+                second.getValue(), Integer::sum);
+        }
+
+        return new ScheduleForecast(from, to, totalFires, peakThreshold, firesPerMinute,
+            findPeaks(firesPerSecond, groupSeconds), findCollisions(groups));
+    }
+
+    /**
+     * Returns the number of fires expected within the next five minutes,
+     * as of the last refresh.
+     *
+     * @return The number of expected fires
+     */
+    public long expectedFires() {
+        return expectedFires;
+    }
+
+    /**
+     * Stops the periodic refresh of the expected fires gauge.
+     */
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Recomputes the number of fires expected within the next five minutes.
+     * Only the total is needed, so no per-second counts are collected.
+     */
+    void refreshExpectedFires() {
+        try {
+            Instant from = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            Instant to = from.plus(GAUGE_WINDOW);
+            long fires = 0;
+            for (Map.Entry<FireGroup, GroupSchedules> group : groupSchedules().entrySet()) {
+                fires += (long) group.getValue().count * group.getKey().fireSeconds(from, to).length;
+            }
+            expectedFires = fires;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to forecast schedule fires: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Groups schedules that fire at the same instants.
+     */
+    private Map<FireGroup, GroupSchedules> groupSchedules() {
+        Map<FireGroup, GroupSchedules> groups = new LinkedHashMap<>();
+        scheduleRepository.stream(null, record -> {
+            if (record.getCronExpression() == null) return;
+
+            long offsetMillis = QuartzScheduler.jitterOffsetMillis(record.getScheduleName(),
+                readJitterMillis(record));
+            FireGroup group = new FireGroup(record.getCronExpression(), record.getTimeZoneId(), offsetMillis);
+            groups.computeIfAbsent(group, key -> new GroupSchedules()).add(record.getScheduleName());
+        });
+        return groups;
+    }
+
+    /**
+     * Reads the jitter window from the top level of the payload, skipping deployment properties
+     * and arguments without building a tree.
+     */
+    private static long readJitterMillis(ScheduleRecord record) {
+        if (record.getProperties() == null) return 0;
+        try (JsonParser parser = jsonFactory.createParser(record.getProperties())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("jitterMillis".equals(field)) {
+                    return parser.getValueAsLong();
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private List<ScheduleForecast.Peak> findPeaks(Map<Long, Integer> firesPerSecond, Map<FireGroup, long[]> groupSeconds) {
+        List<Map.Entry<Long, Integer>> peakSeconds = new ArrayList<>();
+        for (Map.Entry<Long, Integer> second : firesPerSecond.entrySet()) {
+            if (second.getValue() > peakThreshold) {
+                peakSeconds.add(second);
+            }
+        }
+        peakSeconds.sort(Map.Entry.<Long, Integer>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()));
+        if (peakSeconds.size() > MAX_PEAKS) {
+            peakSeconds = peakSeconds.subList(0, MAX_PEAKS);
+        }
+
+        // Find the cron expressions contributing to each peak from the fire seconds of the first pass
+        Map<Long, Set<String>> contributors = new HashMap<>();
+        for (Map.Entry<Long, Integer> second : peakSeconds) {
+            contributors.put(second.getKey(), new TreeSet<>());
+        }
+        if (!contributors.isEmpty()) {
+            for (Map.Entry<FireGroup, long[]> group : groupSeconds.entrySet()) {
+                for (long second : group.getValue()) {
+                    Set<String> cronExpressions = contributors.get(second);
+                    if (cronExpressions != null) {
+                        cronExpressions.add(group.getKey().cronExpression);
+                    }
+                }
+            }
+        }
+
+        List<ScheduleForecast.Peak> peaks = new ArrayList<>();
+        for (Map.Entry<Long, Integer> second : peakSeconds) {
+            peaks.add(new ScheduleForecast.Peak(Instant.ofEpochSecond(second.getKey()), second.getValue(),
+                new ArrayList<>(contributors.get(second.getKey())), suggestJitter(second.getValue())));
+        }
+        return peaks;
+    }
+
+    private List<ScheduleForecast.Collision> findCollisions(Map<FireGroup, GroupSchedules> groups) {
+        List<ScheduleForecast.Collision> collisions = new ArrayList<>();
+        for (Map.Entry<FireGroup, GroupSchedules> group : groups.entrySet()) {
+            GroupSchedules schedules = group.getValue();
+            if (schedules.count < 2) continue;
+
+            collisions.add(new ScheduleForecast.Collision(group.getKey().cronExpression, group.getKey().timeZoneId,
+                schedules.count, new ArrayList<>(schedules.names),
+                schedules.count > peakThreshold ? suggestJitter(schedules.count) : null));
+        }
+        collisions.sort(Comparator.comparingInt(ScheduleForecast.Collision::getScheduleCount).reversed());
+        return collisions.size() > MAX_COLLISIONS ? new ArrayList<>(collisions.subList(0, MAX_COLLISIONS)) : collisions;
+    }
+
+    /**
+     * Suggests the jitter window spreading the given number of simultaneous fires below the threshold.
+     */
+    private String suggestJitter(int fires) {
+        long seconds = (fires + peakThreshold - 1) / Math.max(peakThreshold, 1);
+        return Math.max(seconds, 1) + "s";
+    }
+
+    /**
+     * The number of schedules of a fire group and the first of their names.
+     */
+    private static final class GroupSchedules {
+
+        private final List<String> names = new ArrayList<>();
+        private int count;
+
+        private void add(String scheduleName) {
+            if (names.size() < MAX_SCHEDULE_NAMES) {
+                names.add(scheduleName);
+            }
+            count++;
+        }
+    }
+
+    /**
+     * Schedules with the same cron expression, time zone and jitter offset.
+     */
+    private static final class FireGroup {
+
+        private final String cronExpression;
+        private final String timeZoneId;
+        private final long offsetMillis;
+
+        private FireGroup(String cronExpression, String timeZoneId, long offsetMillis) {
+            this.cronExpression = cronExpression;
+            this.timeZoneId = timeZoneId;
+            this.offsetMillis = offsetMillis;
+        }
+
+        /**
+         * Enumerates the epoch seconds in which this group fires within (from, to].
+         */
+        private long[] fireSeconds(Instant from, Instant to) {
+            CronExpression expression;
+            try {
+                expression = new CronExpression(cronExpression);
+            } catch (ParseException e) {
+                logger.debug("Skipping invalid cron expression {}", cronExpression);
+                return new long[0];
+            }
+            expression.setTimeZone(timeZoneId != null ? TimeZone.getTimeZone(timeZoneId) : TimeZone.getDefault());
+
+            long end = to.toEpochMilli() - offsetMillis;
+            Date fireTime = expression.getNextValidTimeAfter(new Date(from.toEpochMilli() - offsetMillis));
+            long[] seconds = new long[16];
+            int count = 0;
+            while (fireTime != null && fireTime.getTime() <= end) {
+                if (count == seconds.length) {
+                    seconds = Arrays.copyOf(seconds, count * 2);
+                }
+                seconds[count++] = (fireTime.getTime() + offsetMillis) / 1000;
+                fireTime = expression.getNextValidTimeAfter(fireTime);
+            }
+            return Arrays.copyOf(seconds, count);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FireGroup)) return false;
+            FireGroup other = (FireGroup) o;
+            return offsetMillis == other.offsetMillis
+                && cronExpression.equals(other.cronExpression)
+                && Objects.equals(timeZoneId, other.timeZoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cronExpression, timeZoneId, offsetMillis);
+        }
+    }
+}
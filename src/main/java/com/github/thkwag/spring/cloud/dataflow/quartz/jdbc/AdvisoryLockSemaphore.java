@@ -0,0 +1,191 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.impl.jdbcjobstore.LockException;
+import org.quartz.impl.jdbcjobstore.Semaphore;
+import org.quartz.impl.jdbcjobstore.TablePrefixAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Quartz lock handler based on PostgreSQL advisory locks, replacing the row locks taken with
+ * {@code SELECT ... FOR UPDATE} on the {@code QRTZ_LOCKS} table.
+ *
+ * <p>Advisory locks live in the lock manager's shared memory: taking one neither reads nor writes
+ * a table row and leaves no dead tuples behind, which shortens the critical section of trigger
+ * acquisition and firing across a cluster.
+ * Inside a transaction, the lock is transaction-scoped and released on commit or rollback, exactly
+ * like the row lock; on an auto-commit connection, a session lock is taken and released explicitly.
+ * If a session lock cannot be released, its connection is evicted from the pool, so that the lock
+ * ends with the database session instead of staying held on a pooled connection.
+ *
+ * <p>Each lock is keyed by table prefix, scheduler name and Quartz lock name, so schedulers sharing
+ * a database only contend on their own locks. All nodes of a cluster must use the same lock handler:
+ * a node still locking {@code QRTZ_LOCKS} is not excluded by advisory locks, and the other way round.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code quartz.lock.acquire}: time spent waiting for a lock, tagged by lock name</li>
+ * </ul>
+ *
+ * <p>Configured through {@code org.quartz.jobStore.lockHandler.class}; Quartz instantiates it and
+ * sets the table prefix and scheduler name. The meter registry and the connection eviction are bound
+ * per scheduler name with {@link #bind(String, MeterRegistry, Consumer)} before the scheduler starts.
+ */
+public class AdvisoryLockSemaphore implements Semaphore, TablePrefixAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdvisoryLockSemaphore.class);
+
+    private static final String LOCK_TRANSACTION = "SELECT pg_advisory_xact_lock(?)";
+    private static final String LOCK_SESSION = "SELECT pg_advisory_lock(?)";
+    private static final String UNLOCK_SESSION = "SELECT pg_advisory_unlock(?)";
+
+    // Registries and connection eviction by scheduler name, as Quartz instantiates the lock handler itself
+    private static final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+
+    // Locks held by the current thread, with the connection of session locks or null for transaction locks
+    private final ThreadLocal<Map<String, Connection>> heldLocks = ThreadLocal.withInitial(HashMap::new);
+
+    // Acquisition timer of each lock name
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    private String tablePrefix = "";
+    private String schedName = "";
+
+    @Override
+    public boolean obtainLock(Connection conn, String lockName) throws LockException {
+        Map<String, Connection> locks = heldLocks.get();
+        if (locks.containsKey(lockName)) {
+            // Re-entrant, Quartz only releases the outermost lock
+            return true;
+        }
+
+        long key = lockKey(tablePrefix + schedName + ":" + lockName);
+        long start = System.nanoTime();
+        try {
+            boolean transactional = !conn.getAutoCommit();
+            try (PreparedStatement ps = conn.prepareStatement(transactional ? LOCK_TRANSACTION : LOCK_SESSION)) {
+                ps.setLong(1, key);
+                ps.execute();
+            }
+            locks.put(lockName, transactional ? null : conn);
+        } catch (SQLException e) {
+            throw new LockException("Failed to obtain advisory lock " + lockName, e);
+        } finally {
+            Timer timer = acquireTimer(lockName);
+            if (timer != null) timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public void releaseLock(String lockName) throws LockException {
+        Map<String, Connection> locks = heldLocks.get();
+        if (!locks.containsKey(lockName)) {
+            logger.warn("Lock {} released by thread {} which does not hold it", lockName, Thread.currentThread().getName());
+            return;
+        }
+        Connection sessionConnection = locks.remove(lockName);
+        if (sessionConnection == null) {
+            // The transaction lock is released by the commit or rollback that follows
+            return;
+        }
+        boolean released;
+        try (PreparedStatement ps = sessionConnection.prepareStatement(UNLOCK_SESSION)) {
+            ps.setLong(1, lockKey(tablePrefix + schedName + ":" + lockName));
+            try (ResultSet rs = ps.executeQuery()) {
+                released = rs.next() && rs.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            evict(sessionConnection);
+            throw new LockException("Failed to release advisory lock " + lockName, e);
+        }
+        if (!released) {
+            // The session's lock state is unknown, end the session rather than reuse it
+            evict(sessionConnection);
+            throw new LockException("Advisory lock " + lockName + " was not held by its session");
+        }
+    }
+
+    @Override
+    public boolean requiresConnection() {
+        return true;
+    }
+
+    @Override
+    public void setTablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix != null ? tablePrefix : "";
+    }
+
+    @Override
+    public void setSchedName(String schedName) {
+        this.schedName = schedName != null ? schedName : "";
+    }
+
+    /**
+     * Binds the meter registry and the connection eviction used by the lock handlers of a scheduler.
+     *
+     * @param schedulerName The Quartz scheduler name
+     * @param meterRegistry The registry for lock metrics
+     * @param connectionEvictor Removes a connection whose session lock could not be released from its pool
+     */
+    public static void bind(String schedulerName, MeterRegistry meterRegistry, Consumer<Connection> connectionEvictor) {
+        bindings.put(schedulerName, new Binding(meterRegistry, connectionEvictor));
+    }
+
+    private Timer acquireTimer(String lockName) {
+        Binding binding = bindings.get(schedName);
+        if (binding == null) return null;
+        return acquireTimers.computeIfAbsent(lockName, name -> Timer.builder("quartz.lock.acquire")
+            .tag("lock", name)
+            .register(binding.meterRegistry));
+    }
+
+    private void evict(Connection connection) {
+        Binding binding = bindings.get(schedName);
+        if (binding != null) {
+            binding.connectionEvictor.accept(connection);
+            return;
+        }
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException e) {
+            logger.warn("Failed to abort a connection that may still hold an advisory lock", e);
+        }
+    }
+
+    /**
+     * Derives the key of a PostgreSQL advisory lock from a lock name.
+     *
+     * @param lockName The lock name
+     * @return The advisory lock key
+     */
+    public static long lockKey(String lockName) {
+        CRC32 crc = new CRC32();
+        crc.update(lockName.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static final class Binding {
+        private final MeterRegistry meterRegistry;
+        private final Consumer<Connection> connectionEvictor;
+
+        private Binding(MeterRegistry meterRegistry, Consumer<Connection> connectionEvictor) {
+            this.meterRegistry = meterRegistry;
+            this.connectionEvictor = connectionEvictor;
+        }
+    }
+}
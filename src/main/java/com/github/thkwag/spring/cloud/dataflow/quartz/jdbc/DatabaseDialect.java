@@ -0,0 +1,161 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Databases supported for the Quartz tables, with the Quartz driver delegate and the
+ * database-specific JDBC settings used for each. Set explicitly with
+ * {@code spring.cloud.dataflow.scheduler.quartz.database-dialect}, or detected from the
+ * connection metadata (see {@link DatabaseDialectResolver}).
+ *
+ * <p>H2 and HSQLDB are meant for embedded single-node deployments and integration tests.
+ */
+public enum DatabaseDialect {
+
+    /**
+     * PostgreSQL, which stores job data in BYTEA columns.
+     */
+    POSTGRESQL("org.quartz.impl.jdbcjobstore.PostgreSQLDelegate", "postgresql"),
+
+    /**
+     * MySQL.
+     */
+    MYSQL("org.quartz.impl.jdbcjobstore.StdJDBCDelegate", "mysql"),
+
+    /**
+     * MariaDB.
+     */
+    MARIADB("org.quartz.impl.jdbcjobstore.StdJDBCDelegate", "mariadb"),
+
+    /**
+     * H2, for embedded deployments.
+     */
+    H2("org.quartz.impl.jdbcjobstore.StdJDBCDelegate", "h2"),
+
+    /**
+     * HSQLDB, for embedded deployments.
+     */
+    HSQLDB("org.quartz.impl.jdbcjobstore.HSQLDBDelegate", "hsql");
+
+    // Rows fetched per round trip when streaming through a cursor
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final String delegateClass;
+    private final String productKeyword;
+
+    DatabaseDialect(String delegateClass, String productKeyword) {
+        this.delegateClass = delegateClass;
+        this.productKeyword = productKeyword;
+    }
+
+    /**
+     * Returns the Quartz driver delegate for this database.
+     *
+     * @return The fully qualified delegate class name
+     */
+    public String getDelegateClass() {
+        return delegateClass;
+    }
+
+    /**
+     * Returns the fetch size that makes the driver stream large result sets instead of
+     * reading them into memory.
+     *
+     * @return The fetch size for streaming queries
+     */
+    public int getStreamFetchSize() {
+        // MySQL Connector/J streams row by row only with Integer.MIN_VALUE
+        return isMySqlFamily() ? Integer.MIN_VALUE : STREAM_FETCH_SIZE;
+    }
+
+    /**
+     * Checks whether the driver only uses a server-side cursor for fetch sizes inside a transaction.
+     *
+     * @return true if streaming queries must run with auto-commit disabled
+     */
+    public boolean isCursorTransactional() {
+        return this == POSTGRESQL;
+    }
+
+    /**
+     * Returns the classpath directory under {@code schema/} holding the versioned schema scripts
+     * for this database.
+     *
+     * @return The directory name, or null if the schema is not managed for this database
+     */
+    public String getSchemaDirectory() {
+        if (this == POSTGRESQL) return "postgresql";
+        if (isMySqlFamily()) return "mysql";
+        if (this == H2) return "h2";
+        if (this == HSQLDB) return "hsqldb";
+        return null;
+    }
+
+    /**
+     * Checks whether a DDL statement failed because the table or index it creates already exists.
+     *
+     * @param e The error of the statement
+     * @return true if the object already exists
+     */
+    public boolean isDuplicateObject(SQLException e) {
+        switch (this) {
+            case POSTGRESQL:
+                // duplicate_table, duplicate_object
+                return "42P07".equals(e.getSQLState()) || "42710".equals(e.getSQLState());
+            case MYSQL:
+            case MARIADB:
+                // ER_TABLE_EXISTS_ERROR, ER_DUP_KEYNAME
+                return e.getErrorCode() == 1050 || e.getErrorCode() == 1061;
+            case H2:
+                return e.getErrorCode() == 42101 || e.getErrorCode() == 42111;
+            default:
+                return e.getErrorCode() == -5504 || "42504".equals(e.getSQLState());
+        }
+    }
+
+    /**
+     * Checks whether this database is MySQL or MariaDB, which share SQL syntax and named locks.
+     *
+     * @return true for MySQL and MariaDB
+     */
+    public boolean isMySqlFamily() {
+        return this == MYSQL || this == MARIADB;
+    }
+
+    /**
+     * Finds the dialect of a database from its connection metadata.
+     *
+     * @param productName The database product name reported by the driver
+     * @param url The JDBC URL, or null if unknown
+     * @return The dialect or null if the database is not supported
+     */
+    public static DatabaseDialect fromMetaData(String productName, String url) {
+        String product = (productName != null ? productName : "").toLowerCase(Locale.ROOT);
+        String jdbcUrl = (url != null ? url : "").toLowerCase(Locale.ROOT);
+        // MariaDB first, its driver also accepts jdbc:mysql: URLs
+        for (DatabaseDialect dialect : new DatabaseDialect[] {MARIADB, POSTGRESQL, MYSQL, H2, HSQLDB}) {
+            if (product.contains(dialect.productKeyword) || jdbcUrl.startsWith("jdbc:" + dialect.productKeyword)) {
+                return dialect;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a dialect name case-insensitively.
+     *
+     * @param value The dialect name, e.g. {@code postgresql}
+     * @return The dialect
+     * @throws IllegalArgumentException if the dialect is unknown
+     */
+    public static DatabaseDialect parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Database dialect must be one of "
+                + Arrays.toString(values()) + ": " + value);
+        }
+    }
+}
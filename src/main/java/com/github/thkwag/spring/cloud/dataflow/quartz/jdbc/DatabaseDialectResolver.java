@@ -0,0 +1,75 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Resolves the {@link DatabaseDialect} of the datasource holding the Quartz tables.
+ *
+ * <p>A configured dialect is used as is, without touching the database. Otherwise the dialect is
+ * detected from the connection metadata on first use, with a single short-lived connection, and
+ * cached for the lifetime of the resolver.
+ */
+public class DatabaseDialectResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseDialectResolver.class);
+
+    private final DataSource dataSource;
+    private volatile DatabaseDialect dialect;
+
+    /**
+     * Creates a new DatabaseDialectResolver.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param configuredDialect The configured dialect, or null to detect it
+     */
+    public DatabaseDialectResolver(DataSource dataSource, DatabaseDialect configuredDialect) {
+        this.dataSource = dataSource;
+        this.dialect = configuredDialect;
+    }
+
+    /**
+     * Returns the dialect of the datasource, detecting it on first use if none is configured.
+     *
+     * @return The database dialect
+     * @throws IllegalStateException if the metadata cannot be read or the database is not supported
+     */
+    public DatabaseDialect getDialect() {
+        DatabaseDialect resolved = dialect;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = dialect;
+                if (resolved == null) {
+                    resolved = detect();
+                    dialect = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private DatabaseDialect detect() {
+        String productName;
+        String url;
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            productName = metaData.getDatabaseProductName();
+            url = metaData.getURL();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to detect database type", e);
+        }
+
+        DatabaseDialect detected = DatabaseDialect.fromMetaData(productName, url);
+        if (detected == null) {
+            throw new IllegalStateException("Unsupported database type: " + productName
+                + ". Only PostgreSQL, MySQL, MariaDB, H2 and HSQLDB are supported.");
+        }
+        logger.info("Detected database dialect {} for the Quartz tables", detected);
+        return detected;
+    }
+}
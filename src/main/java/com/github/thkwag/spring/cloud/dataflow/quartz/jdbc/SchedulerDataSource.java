@@ -0,0 +1,207 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.quartz.utils.ConnectionProvider;
+import org.quartz.utils.DBConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * The datasource holding the Quartz tables, either the datasource shared with Spring Cloud Data Flow
+ * or a dedicated connection pool.
+ *
+ * <p>A dedicated pool isolates trigger acquisition from Data Flow's own database load, and the other
+ * way round. It is deliberately not exposed as a {@link DataSource} bean, so Data Flow keeps
+ * auto-configuring its own datasource. With a dedicated pool, Quartz manages its transactions itself
+ * through {@code JobStoreTX} instead of joining Spring-managed transactions, so each JobStore
+ * operation commits on its own. On the shared datasource, Quartz joins the transactions of Data Flow's
+ * {@link #getTransactionManager() transaction manager}, so several JobStore operations can be
+ * committed as one transaction.
+ *
+ * @see #dedicated(String, String, String, String, int, Duration, MeterRegistry)
+ */
+public final class SchedulerDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerDataSource.class);
+
+    /**
+     * Name of the Hikari pool and of the Quartz connection provider of a dedicated pool.
+     */
+    public static final String POOL_NAME = "quartz";
+
+    // Connections used by Quartz besides the firing workers: misfire handling and cluster check-in
+    private static final int HOUSEKEEPING_CONNECTIONS = 2;
+
+    // Connections used by schedule reads and writes from the Data Flow API
+    private static final int API_CONNECTIONS = 2;
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final boolean dedicated;
+
+    private SchedulerDataSource(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                boolean dedicated) {
+        this.dataSource = dataSource;
+        this.transactionManager = transactionManager;
+        this.dedicated = dedicated;
+    }
+
+    /**
+     * Uses the datasource shared with Spring Cloud Data Flow for the Quartz tables.
+     *
+     * @param dataSource The shared datasource
+     * @param transactionManager Data Flow's transaction manager of the shared datasource
+     * @return A SchedulerDataSource without a pool of its own
+     */
+    public static SchedulerDataSource shared(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        return new SchedulerDataSource(dataSource, transactionManager, false);
+    }
+
+    /**
+     * Creates a dedicated connection pool for the Quartz tables. The pool is started on first use.
+     *
+     * @param url The JDBC URL
+     * @param username The database user
+     * @param password The database password
+     * @param driverClassName The JDBC driver class, or null to derive it from the URL
+     * @param maximumPoolSize The maximum number of connections
+     * @param connectionTimeout The maximum time to wait for a connection from the pool
+     * @param meterRegistry The registry for pool metrics, including the time spent waiting for connections
+     * @return A SchedulerDataSource owning the pool
+     */
+    public static SchedulerDataSource dedicated(String url, String username, String password, String driverClassName,
+                                                int maximumPoolSize, Duration connectionTimeout,
+                                                MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(POOL_NAME);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        if (driverClassName != null && !driverClassName.isEmpty()) {
+            pool.setDriverClassName(driverClassName);
+        }
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        pool.setMetricRegistry(meterRegistry);
+        logger.info("Using a dedicated Quartz connection pool of {} connections", maximumPoolSize);
+        return new SchedulerDataSource(pool, null, true);
+    }
+
+    /**
+     * Returns the connection pool size that lets every firing worker hold a connection,
+     * in addition to Quartz housekeeping and schedule operations from the API.
+     *
+     * @param fireConcurrency The maximum number of concurrent fires
+     * @return The recommended maximum pool size
+     */
+    public static int recommendedPoolSize(int fireConcurrency) {
+        return fireConcurrency + HOUSEKEEPING_CONNECTIONS + API_CONNECTIONS;
+    }
+
+    /**
+     * Publishes connection pool metrics of a Hikari datasource, including the time spent waiting
+     * for connections, unless the pool already publishes metrics. Other datasources are ignored.
+     *
+     * @param dataSource The datasource
+     * @param meterRegistry The registry for pool metrics
+     */
+    public static void bindPoolMetrics(DataSource dataSource, MeterRegistry meterRegistry) {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return;
+
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+            if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                pool.setMetricRegistry(meterRegistry);
+            }
+        } catch (SQLException | IllegalStateException e) {
+            logger.debug("Failed to bind connection pool metrics", e);
+        }
+    }
+
+    /**
+     * Returns the datasource holding the Quartz tables.
+     *
+     * @return The dedicated pool or the shared datasource
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the transaction manager of the shared datasource, which Quartz operations join.
+     *
+     * @return Data Flow's transaction manager, or null for a dedicated pool, whose transactions Quartz manages
+     */
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * Checks whether the Quartz tables are accessed through a dedicated pool.
+     *
+     * @return true for a dedicated pool, false for the datasource shared with Data Flow
+     */
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
+    /**
+     * Removes a connection in use from the pool, so that its database session ends when it is closed
+     * instead of being handed out again, e.g. because it may still hold a session lock. Connections
+     * of datasources other than Hikari are aborted.
+     *
+     * @param connection A connection obtained from this datasource
+     */
+    public void evictConnection(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            } else {
+                connection.abort(Runnable::run);
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Failed to evict a connection from the Quartz datasource", e);
+        }
+    }
+
+    /**
+     * Registers the dedicated pool as a Quartz connection provider, so that a {@code JobStoreTX}
+     * configured with {@code org.quartz.jobStore.dataSource} set to the given name uses it.
+     *
+     * @param name The Quartz datasource name
+     */
+    public void registerConnectionProvider(String name) {
+        DBConnectionManager.getInstance().addConnectionProvider(name, new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return dataSource.getConnection();
+            }
+
+            @Override
+            public void shutdown() {
+                // The pool is closed with this SchedulerDataSource
+            }
+
+            @Override
+            public void initialize() {
+            }
+        });
+    }
+
+    /**
+     * Closes the dedicated pool. A shared datasource is left to its owner.
+     */
+    @Override
+    public void close() {
+        if (dedicated) {
+            ((HikariDataSource) dataSource).close();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates and upgrades the Quartz tables, their indexes and the scheduler's own tables from the
+ * versioned scripts under {@code classpath:schema/<database>/}.
+ *
+ * <p>Scripts are named {@code V<version>__<description>.sql} and applied in version order. Applied
+ * versions are recorded in {@code <prefix>SCDF_SCHEMA_VERSION}, so each script runs once per
+ * database. Migrations run under a database lock held for the whole migration, so that only one
+ * node of a cluster migrates while the others wait and then find the schema up to date. The
+ * statements are idempotent, and tables or indexes that already exist, e.g. from the stock Quartz
+ * scripts, are kept as they are.
+ *
+ * <p>The schema is managed for PostgreSQL, MySQL/MariaDB, H2 and HSQLDB. H2 and HSQLDB have no
+ * named locks, so migrations on them are only serialized within the JVM, which is enough for the
+ * embedded single-node deployments they are meant for.
+ */
+public class SchemaMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    /**
+     * Placeholder of the table prefix in the schema scripts.
+     */
+    public static final String TABLE_PREFIX_PLACEHOLDER = "${tablePrefix}";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    // Seconds a node waits for another node's migration to complete
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    // Interval between two attempts to take the PostgreSQL lock
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 500;
+
+    // Serializes migrations of databases without named locks within the JVM
+    private static final ReentrantLock LOCAL_LOCK = new ReentrantLock();
+
+    private static final String CREATE_VERSION_TABLE =
+        "CREATE TABLE IF NOT EXISTS {0}SCDF_SCHEMA_VERSION ("
+            + "VERSION INTEGER NOT NULL, "
+            + "DESCRIPTION VARCHAR(200) NOT NULL, "
+            + "INSTALLED_AT BIGINT NOT NULL, "
+            + "PRIMARY KEY (VERSION))";
+
+    private static final String SELECT_VERSIONS = "SELECT VERSION FROM {0}SCDF_SCHEMA_VERSION";
+
+    private static final String INSERT_VERSION =
+        "INSERT INTO {0}SCDF_SCHEMA_VERSION (VERSION, DESCRIPTION, INSTALLED_AT) VALUES (?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final DatabaseDialect dialect;
+    private final String tablePrefix;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    /**
+     * Creates a new SchemaMigrator.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param dialect The database dialect
+     * @param tablePrefix The Quartz table prefix
+     */
+    public SchemaMigrator(DataSource dataSource, DatabaseDialect dialect, String tablePrefix) {
+        this.dataSource = dataSource;
+        this.dialect = dialect;
+        this.tablePrefix = tablePrefix;
+    }
+
+    /**
+     * Applies the schema scripts that have not been applied yet.
+     *
+     * @return The number of applied scripts
+     * @throws IllegalStateException if a script cannot be read or fails
+     */
+    public int migrate() {
+        String directory = dialect.getSchemaDirectory();
+        if (directory == null) {
+            logger.info("Schema management is not supported for {}, the Quartz tables must already exist", dialect);
+            return 0;
+        }
+        List<Script> scripts = findScripts(directory);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            String lockName = tablePrefix + "SCDF_SCHEMA";
+            lock(connection, lockName);
+            try {
+                return apply(connection, scripts);
+            } finally {
+                unlock(connection, lockName);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to migrate the Quartz schema", e);
+        }
+    }
+
+    private int apply(Connection connection, List<Script> scripts) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql(CREATE_VERSION_TABLE));
+        }
+        Set<Integer> applied = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql(SELECT_VERSIONS))) {
+            while (rs.next()) {
+                applied.add(rs.getInt(1));
+            }
+        }
+
+        int count = 0;
+        for (Script script : scripts) {
+            if (applied.contains(script.version)) continue;
+
+            logger.info("Applying Quartz schema version {}: {}", script.version, script.description);
+            for (String sql : script.statements) {
+                execute(connection, sql);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(sql(INSERT_VERSION))) {
+                ps.setInt(1, script.version);
+                ps.setString(2, script.description);
+                ps.setLong(3, System.currentTimeMillis());
+                ps.executeUpdate();
+            }
+            count++;
+        }
+        if (count == 0) {
+            logger.debug("Quartz schema is up to date");
+        }
+        return count;
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            if (!dialect.isDuplicateObject(e)) throw e;
+            logger.debug("Skipping existing schema object: {}", e.getMessage());
+        }
+    }
+
+    private void lock(Connection connection, String lockName) throws SQLException {
+        if (dialect == DatabaseDialect.POSTGRESQL) {
+            lockPostgres(connection, lockName);
+            return;
+        }
+        if (!dialect.isMySqlFamily()) {
+            lockLocally(lockName);
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, lockName);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException("Timed out waiting for the schema migration lock " + lockName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the advisory lock with the same timeout as {@code GET_LOCK} on MySQL.
+     * {@code pg_advisory_lock} waits without a bound, so the lock is polled instead.
+     */
+    private void lockPostgres(Connection connection, String lockName) throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LOCK_TIMEOUT_SECONDS);
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, AdvisoryLockSemaphore.lockKey(lockName));
+            while (true) {
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) return;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new IllegalStateException("Timed out waiting for the schema migration lock " + lockName);
+                }
+                try {
+                    Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the schema migration lock " + lockName, e);
+                }
+            }
+        }
+    }
+
+    private void lockLocally(String lockName) {
+        try {
+            if (!LOCAL_LOCK.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the schema migration lock " + lockName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the schema migration lock " + lockName, e);
+        }
+    }
+
+    private void unlock(Connection connection, String lockName) {
+        if (dialect != DatabaseDialect.POSTGRESQL && !dialect.isMySqlFamily()) {
+            LOCAL_LOCK.unlock();
+            return;
+        }
+        String sql = dialect == DatabaseDialect.POSTGRESQL ? "SELECT pg_advisory_unlock(?)" : "SELECT RELEASE_LOCK(?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            if (dialect == DatabaseDialect.POSTGRESQL) {
+                ps.setLong(1, AdvisoryLockSemaphore.lockKey(lockName));
+            } else {
+                ps.setString(1, lockName);
+            }
+            ps.execute();
+        } catch (SQLException e) {
+            // A session lock left behind is released when the pool closes the connection
+            logger.warn("Failed to release the schema migration lock {}", lockName, e);
+        }
+    }
+
+    private List<Script> findScripts(String directory) {
+        List<Script> scripts = new ArrayList<>();
+        try {
+            for (Resource resource : resourceResolver.getResources("classpath:schema/" + directory + "/V*.sql")) {
+                Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename() != null ? resource.getFilename() : "");
+                if (!matcher.matches()) {
+                    logger.warn("Ignoring schema script with an invalid name: {}", resource.getFilename());
+                    continue;
+                }
+                String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8)
+                    .replace(TABLE_PREFIX_PLACEHOLDER, tablePrefix);
+                List<String> statements = new ArrayList<>();
+                ScriptUtils.splitSqlScript(new EncodedResource(resource, StandardCharsets.UTF_8), content, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                    ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                    ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, statements);
+                scripts.add(new Script(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    statements));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the schema scripts for " + dialect, e);
+        }
+        scripts.sort(Comparator.comparingInt(script -> script.version));
+        return scripts;
+    }
+
+    private String sql(String template) {
+        return template.replace("{0}", tablePrefix);
+    }
+
+    private static final class Script {
+        private final int version;
+        private final String description;
+        private final List<String> statements;
+
+        private Script(int version, String description, List<String> statements) {
+            this.version = version;
+            this.description = description;
+            this.statements = statements;
+        }
+    }
+}
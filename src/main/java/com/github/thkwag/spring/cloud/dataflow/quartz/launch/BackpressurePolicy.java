@@ -0,0 +1,22 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+/**
+ * Behavior of the {@link TaskLaunchDispatcher} when its launch queue is full.
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Blocks the firing Quartz worker thread until the queue has room.
+     */
+    BLOCK,
+
+    /**
+     * Drops the launch and logs a warning.
+     */
+    SHED,
+
+    /**
+     * Drops the launch and fires the job again once after the defer delay.
+     */
+    DEFER
+}
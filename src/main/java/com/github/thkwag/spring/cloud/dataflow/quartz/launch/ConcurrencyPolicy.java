@@ -0,0 +1,26 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+/**
+ * Behavior when a schedule fires while the task launched by an earlier fire is still running,
+ * set per schedule with the deployment property {@code scheduler.concurrency-policy}.
+ * Executions of the same task launched manually or by other schedules are not taken into account.
+ *
+ * @see RunningTaskExecutions
+ */
+public enum ConcurrencyPolicy {
+
+    /**
+     * Launches regardless of running executions.
+     */
+    ALLOW,
+
+    /**
+     * Skips the launch while an execution launched by the schedule is running.
+     */
+    FORBID,
+
+    /**
+     * Stops the running executions launched by the schedule, then launches.
+     */
+    REPLACE
+}
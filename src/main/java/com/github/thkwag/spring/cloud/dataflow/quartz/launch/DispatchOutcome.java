@@ -0,0 +1,22 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+/**
+ * Result of handing a launch to the {@link TaskLaunchDispatcher}.
+ */
+public enum DispatchOutcome {
+
+    /**
+     * The launch was queued and will be executed by a launch thread.
+     */
+    ACCEPTED,
+
+    /**
+     * The queue was full and the launch was dropped.
+     */
+    SHED,
+
+    /**
+     * The queue was full; the caller is expected to fire the job again later.
+     */
+    DEFERRED
+}
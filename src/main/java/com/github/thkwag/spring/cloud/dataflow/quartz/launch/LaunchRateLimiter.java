@@ -0,0 +1,245 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cluster-wide admission control for task launches, coordinated through the shared Quartz database.
+ * Each limiter manages a named budget (bucket), which enforces two limits across all nodes:
+ *
+ * <ul>
+ *   <li>Launches per second, counted in a fixed one-second window</li>
+ *   <li>Launches in flight, tracked as leases that are released when a launch call completes</li>
+ * </ul>
+ *
+ * <p>Each admission is one short transaction that locks the bucket's budget row
+ * ({@code SELECT ... FOR UPDATE}), so concurrent admissions on different nodes are serialized.
+ * Leases expire after the lease timeout, so launches of a crashed node don't hold the budget forever.
+ * Windows are based on the clocks of the cluster nodes, which are expected to be synchronized.
+ *
+ * <p>Fires that are not admitted are deferred by the caller. Admissions are counted as
+ * {@code quartz.launch.admission}, tagged with the bucket and
+ * {@code result=admitted|rate-limited|in-flight-limited}.
+ *
+ * <p>The state is stored in the {@code <prefix>SCDF_LAUNCH_BUDGET} and {@code <prefix>SCDF_LAUNCH_LEASE} tables.
+ *
+ * @see com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzExecutionJob
+ */
+public class LaunchRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchRateLimiter.class);
+
+    private static final String INSERT_BUDGET =
+        "INSERT INTO {0}SCDF_LAUNCH_BUDGET (SCHED_NAME, BUCKET_NAME, WINDOW_START, WINDOW_COUNT) VALUES (?, ?, 0, 0)";
+
+    private static final String SELECT_BUDGET =
+        "SELECT WINDOW_START, WINDOW_COUNT FROM {0}SCDF_LAUNCH_BUDGET WHERE SCHED_NAME = ? AND BUCKET_NAME = ?";
+
+    private static final String LOCK_BUDGET = SELECT_BUDGET + " FOR UPDATE";
+
+    private static final String UPDATE_BUDGET =
+        "UPDATE {0}SCDF_LAUNCH_BUDGET SET WINDOW_START = ?, WINDOW_COUNT = ? WHERE SCHED_NAME = ? AND BUCKET_NAME = ?";
+
+    private static final String DELETE_EXPIRED_LEASES =
+        "DELETE FROM {0}SCDF_LAUNCH_LEASE WHERE SCHED_NAME = ? AND BUCKET_NAME = ? AND EXPIRES_AT <= ?";
+
+    private static final String COUNT_LEASES =
+        "SELECT COUNT(*) FROM {0}SCDF_LAUNCH_LEASE WHERE SCHED_NAME = ? AND BUCKET_NAME = ?";
+
+    private static final String INSERT_LEASE =
+        "INSERT INTO {0}SCDF_LAUNCH_LEASE (SCHED_NAME, BUCKET_NAME, LEASE_ID, EXPIRES_AT) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_LEASE =
+        "DELETE FROM {0}SCDF_LAUNCH_LEASE WHERE SCHED_NAME = ? AND BUCKET_NAME = ? AND LEASE_ID = ?";
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    // Returned by admit when the launch is admitted without an in-flight limit
+    private static final String NO_LEASE = "";
+
+    /**
+     * Name of the budget applied to all launches.
+     */
+    public static final String LAUNCH_BUCKET = "launch";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String tablePrefix;
+    private final String schedulerName;
+    private final String bucketName;
+    private final int launchesPerSecond;
+    private final int maxInFlight;
+    private final long leaseTimeoutMillis;
+    private final Duration deferDelay;
+    private final Counter admitted;
+    private final Counter rateLimited;
+    private final Counter inFlightLimited;
+
+    /**
+     * Creates a new LaunchRateLimiter.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param tablePrefix The Quartz table prefix, e.g. {@code QRTZ_}
+     * @param schedulerName The Quartz scheduler name used as SCHED_NAME
+     * @param bucketName The name of the budget, e.g. {@link #LAUNCH_BUCKET}
+     * @param launchesPerSecond The maximum number of launches per second across the cluster
+     * @param maxInFlight The maximum number of concurrent launch calls across the cluster, 0 for no limit
+     * @param leaseTimeout The time after which an unreleased lease no longer counts as in flight
+     * @param deferDelay The base delay after which deferred fires are retried
+     * @param meterRegistry The registry for admission metrics
+     */
+    public LaunchRateLimiter(DataSource dataSource, String tablePrefix, String schedulerName, String bucketName,
+                             int launchesPerSecond, int maxInFlight, Duration leaseTimeout,
+                             Duration deferDelay, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.tablePrefix = tablePrefix;
+        this.schedulerName = schedulerName;
+        this.bucketName = bucketName;
+        this.launchesPerSecond = launchesPerSecond;
+        this.maxInFlight = maxInFlight;
+        this.leaseTimeoutMillis = leaseTimeout.toMillis();
+        this.deferDelay = deferDelay;
+        this.admitted = admissionCounter("admitted", bucketName, meterRegistry);
+        this.rateLimited = admissionCounter("rate-limited", bucketName, meterRegistry);
+        this.inFlightLimited = admissionCounter("in-flight-limited", bucketName, meterRegistry);
+    }
+
+    /**
+     * Creates the bucket's budget row if it doesn't exist yet.
+     * The row is created up front, since a failed insert would abort the admission transaction
+     * on some databases.
+     */
+    public void initialize() {
+        if (jdbcTemplate.queryForList(sql(SELECT_BUDGET), schedulerName, bucketName).isEmpty()) {
+            try {
+                jdbcTemplate.update(sql(INSERT_BUDGET), schedulerName, bucketName);
+            } catch (DuplicateKeyException e) {
+                // Another node created the row in the meantime
+            }
+        }
+    }
+
+    /**
+     * Tries to admit a launch. If the budget cannot be checked because the database is unavailable,
+     * the launch is admitted, so that a database problem doesn't stop all schedules.
+     *
+     * @param scheduleName The name of the fired schedule, used for logging
+     * @return A permit to release once the launch call completes, or null if the fire must be deferred
+     */
+    public Permit tryAcquire(String scheduleName) {
+        try {
+            String leaseId = transactionTemplate.execute(status -> admit());
+            if (leaseId == null) {
+                logger.debug("Launch budget exhausted, deferring schedule {}", scheduleName);
+                return null;
+            }
+            admitted.increment();
+            return new Permit(NO_LEASE.equals(leaseId) ? null : leaseId);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to check launch budget, admitting schedule {}: {}", scheduleName, e.getMessage());
+            return new Permit(null);
+        }
+    }
+
+    /**
+     * Returns the delay after which a deferred fire should be retried.
+     * A random spread of up to one more defer delay keeps deferred fires from retrying in lockstep.
+     *
+     * @return The delay in milliseconds
+     */
+    public long nextDeferDelayMillis() {
+        long base = deferDelay.toMillis();
+        return base + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    /**
+     * Checks both budgets and takes a lease, holding the budget row lock.
+     *
+     * @return The lease id or null if a budget is exhausted
+     */
+    private String admit() {
+        Map<String, Object> budget = jdbcTemplate.queryForMap(sql(LOCK_BUDGET), schedulerName, bucketName);
+        long now = System.currentTimeMillis();
+        long windowStart = now - now % WINDOW_MILLIS;
+        long storedWindowStart = ((Number) budget.get("WINDOW_START")).longValue();
+        int count = storedWindowStart == windowStart ? ((Number) budget.get("WINDOW_COUNT")).intValue() : 0;
+        if (count >= launchesPerSecond) {
+            rateLimited.increment();
+            return null;
+        }
+
+        if (maxInFlight <= 0) {
+            jdbcTemplate.update(sql(UPDATE_BUDGET), windowStart, count + 1, schedulerName, bucketName);
+            return NO_LEASE;
+        }
+
+        jdbcTemplate.update(sql(DELETE_EXPIRED_LEASES), schedulerName, bucketName, now);
+        Integer leases = jdbcTemplate.queryForObject(sql(COUNT_LEASES), Integer.class, schedulerName, bucketName);
+        if (leases != null && leases >= maxInFlight) {
+            inFlightLimited.increment();
+            return null;
+        }
+
+        String leaseId = UUID.randomUUID().toString();
+        jdbcTemplate.update(sql(UPDATE_BUDGET), windowStart, count + 1, schedulerName, bucketName);
+        jdbcTemplate.update(sql(INSERT_LEASE), schedulerName, bucketName, leaseId, now + leaseTimeoutMillis);
+        return leaseId;
+    }
+
+    private void release(String leaseId) {
+        try {
+            jdbcTemplate.update(sql(DELETE_LEASE), schedulerName, bucketName, leaseId);
+        } catch (DataAccessException e) {
+            // The lease expires on its own
+            logger.warn("Failed to release launch lease {}: {}", leaseId, e.getMessage());
+        }
+    }
+
+    private String sql(String query) {
+        return query.replace("{0}", tablePrefix);
+    }
+
+    private static Counter admissionCounter(String result, String bucketName, MeterRegistry meterRegistry) {
+        return Counter.builder("quartz.launch.admission")
+            .tag("bucket", bucketName)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * An admitted launch. The permit must be released once the launch call completes.
+     */
+    public final class Permit {
+
+        // Null if the launch was admitted without a lease
+        private final String leaseId;
+        private boolean released;
+
+        private Permit(String leaseId) {
+            this.leaseId = leaseId;
+        }
+
+        /**
+         * Releases the in-flight lease of this launch. Subsequent calls have no effect.
+         */
+        public synchronized void release() {
+            if (released || leaseId == null) return;
+            released = true;
+            LaunchRateLimiter.this.release(leaseId);
+        }
+    }
+}
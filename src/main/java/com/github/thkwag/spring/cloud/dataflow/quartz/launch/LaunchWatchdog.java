@@ -0,0 +1,201 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Enforces a timeout on task launch calls and reports launch calls that are stuck.
+ *
+ * <p>Launch calls run on separate call threads while the calling thread, a Quartz worker or a
+ * launch thread, waits at most the launch timeout. When the timeout expires, the call is
+ * interrupted and the calling thread returns with a {@link TimeoutException}, so a hanging
+ * {@code TaskExecutionService.executeTask} never pins worker capacity. Calls that ignore the
+ * interrupt keep their call thread until they return; a periodic check logs them with their
+ * stack trace.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code quartz.launch.timeouts}: launch calls abandoned after the launch timeout</li>
+ *   <li>{@code quartz.launch.stuck}: abandoned launch calls that are still running</li>
+ * </ul>
+ *
+ * @see com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzExecutionJob
+ */
+public class LaunchWatchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchWatchdog.class);
+
+    // Number of stack frames logged for a stuck launch call
+    private static final int STACK_DEPTH = 10;
+
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor callExecutor;
+    private final ScheduledExecutorService checkExecutor;
+    private final Map<Long, LaunchCall> calls = new ConcurrentHashMap<>();
+    private final AtomicLong callIds = new AtomicLong();
+    private final Counter timeouts;
+
+    /**
+     * Creates a new LaunchWatchdog and starts its periodic check.
+     *
+     * @param timeout The maximum duration of a launch call
+     * @param checkInterval The interval between two checks for stuck launch calls
+     * @param meterRegistry The registry for watchdog metrics
+     */
+    public LaunchWatchdog(Duration timeout, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeout.toMillis();
+        // Stuck calls hold their thread, so the call threads are not bounded
+        this.callExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), daemonThreadFactory("quartz-launch-call-"));
+        this.checkExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("quartz-launch-watchdog-"));
+        this.checkExecutor.scheduleWithFixedDelay(this::reportStuckCalls,
+            checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        this.timeouts = Counter.builder("quartz.launch.timeouts").register(meterRegistry);
+        Gauge.builder("quartz.launch.stuck", this, LaunchWatchdog::getStuckCount).register(meterRegistry);
+    }
+
+    /**
+     * Runs a launch call and waits for its result at most the launch timeout.
+     *
+     * @param fireInstanceId The fire instance id of the Quartz fire making the call
+     * @param scheduleName The name of the fired schedule
+     * @param launch The launch call
+     * @param <T> The result type of the launch call
+     * @return The result of the launch call
+     * @throws TimeoutException if the launch call did not complete within the timeout
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     * @throws Exception if the launch call failed or was cancelled through {@link #cancel(String)}
+     */
+    public <T> T call(String fireInstanceId, String scheduleName, Callable<T> launch) throws Exception {
+        long callId = callIds.incrementAndGet();
+        LaunchCall call = new LaunchCall(fireInstanceId, scheduleName);
+        calls.put(callId, call);
+        Future<T> future = callExecutor.submit(() -> {
+            call.thread = Thread.currentThread();
+            try {
+                return launch.call();
+            } finally {
+                calls.remove(callId);
+            }
+        });
+        call.future = future;
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            call.abandoned = true;
+            future.cancel(true);
+            timeouts.increment();
+            throw new TimeoutException("Launch of schedule " + scheduleName + " timed out after " + timeoutMillis + "ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception) cause;
+            throw e;
+        } finally {
+            // The call never runs if it was cancelled before its call thread picked it up
+            if (future.isCancelled() && call.thread == null) calls.remove(callId);
+        }
+    }
+
+    /**
+     * Cancels the launch calls of a fire, interrupting their call threads.
+     * Threads waiting in {@link #call(String, String, Callable)} for these calls return with a
+     * {@link CancellationException}; calls of other fires are not affected.
+     *
+     * @param fireInstanceId The fire instance id of the Quartz fire
+     * @return The number of cancelled launch calls
+     */
+    public int cancel(String fireInstanceId) {
+        int cancelled = 0;
+        for (LaunchCall call : calls.values()) {
+            if (!call.fireInstanceId.equals(fireInstanceId)) continue;
+            Future<?> future = call.future;
+            if (future != null && future.cancel(true)) {
+                call.abandoned = true;
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Returns the number of abandoned launch calls that are still running.
+     *
+     * @return The number of stuck launch calls
+     */
+    public int getStuckCount() {
+        return (int) calls.values().stream().filter(call -> call.abandoned).count();
+    }
+
+    /**
+     * Stops the periodic check and interrupts launch calls still in progress.
+     */
+    public void shutdown() {
+        checkExecutor.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * Logs launch calls that are still running after the launch timeout.
+     */
+    private void reportStuckCalls() {
+        long now = System.currentTimeMillis();
+        for (LaunchCall call : calls.values()) {
+            long runningMillis = now - call.startedAt;
+            Thread thread = call.thread;
+            if (runningMillis < timeoutMillis || thread == null) continue;
+
+            StackTraceElement[] stackTrace = thread.getStackTrace();
+            logger.warn("Launch of schedule {} stuck for {}ms on thread {}{}, at:\n\t{}",
+                call.scheduleName, runningMillis, thread.getName(), call.abandoned ? " after being abandoned" : "",
+                Arrays.stream(stackTrace, 0, Math.min(STACK_DEPTH, stackTrace.length))
+                    .map(StackTraceElement::toString)
+                    .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static final class LaunchCall {
+        private final String fireInstanceId;
+        private final String scheduleName;
+        private final long startedAt = System.currentTimeMillis();
+        private volatile Thread thread;
+        private volatile Future<?> future;
+        private volatile boolean abandoned;
+
+        private LaunchCall(String fireInstanceId, String scheduleName) {
+            this.fireInstanceId = fireInstanceId;
+            this.scheduleName = scheduleName;
+        }
+    }
+}
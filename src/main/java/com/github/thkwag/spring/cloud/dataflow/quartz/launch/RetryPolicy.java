@@ -0,0 +1,112 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry behavior of a schedule when its task launch fails, set per schedule with the deployment
+ * properties {@code scheduler.retry.max-attempts}, {@code scheduler.retry.backoff},
+ * {@code scheduler.retry.max-backoff} and {@code scheduler.retry.multiplier}.
+ *
+ * <p>The backoff grows exponentially with each attempt up to the maximum backoff. Each delay is
+ * randomized between half and the full backoff, so schedules failing together don't retry together.
+ * Instances are immutable.
+ *
+ * @see com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzExecutionJob
+ */
+public final class RetryPolicy {
+
+    /**
+     * Launches once, without retries.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 1);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+
+    /**
+     * Creates a new RetryPolicy.
+     *
+     * @param maxAttempts The maximum number of launch attempts, including the first one
+     * @param backoff The delay before the first retry
+     * @param maxBackoff The maximum delay before a retry
+     * @param multiplier The factor by which the delay grows with each retry
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public RetryPolicy(int maxAttempts, Duration backoff, Duration maxBackoff, double multiplier) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry max attempts must be positive: " + maxAttempts);
+        }
+        if (backoff.isNegative() || maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("Retry backoff must not be negative: " + backoff + ", " + maxBackoff);
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Retry multiplier must be at least 1: " + multiplier);
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.maxBackoffMillis = Math.max(maxBackoff.toMillis(), backoffMillis);
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Returns the maximum number of launch attempts, including the first one.
+     *
+     * @return The maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the delay before the first retry.
+     *
+     * @return The initial backoff in milliseconds
+     */
+    public long getBackoffMillis() {
+        return backoffMillis;
+    }
+
+    /**
+     * Returns the maximum delay before a retry.
+     *
+     * @return The maximum backoff in milliseconds
+     */
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    /**
+     * Returns the factor by which the delay grows with each retry.
+     *
+     * @return The backoff multiplier
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Checks whether a failed attempt may be retried.
+     *
+     * @param attempt The number of the failed attempt, starting at 1
+     * @return true if another attempt is allowed
+     */
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * Returns the randomized delay before the retry following a failed attempt.
+     *
+     * @param attempt The number of the failed attempt, starting at 1
+     * @return The delay in milliseconds, between half and the full backoff of the attempt
+     */
+    public long nextBackoffMillis(int attempt) {
+        double backoff = backoffMillis * Math.pow(multiplier, attempt - 1);
+        long cappedBackoff = (long) Math.min(backoff, maxBackoffMillis);
+        long half = cappedBackoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(cappedBackoff - half + 1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExplorer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached view of the running executions launched by each schedule, used to enforce {@link ConcurrencyPolicy}.
+ *
+ * <p>Executions launched by a schedule are recorded with their schema target in the
+ * {@code <prefix>SCDF_SCHEDULE_EXECUTION} table, so a schedule only skips or stops executions it
+ * launched itself, not executions of the same task launched manually or by other schedules. The
+ * records are shared by all cluster nodes and survive restarts. Records of executions that have
+ * ended are removed when the schedule's executions are read next.
+ *
+ * <p>The running executions of a schedule are read at most once per time-to-live, so frequent fires
+ * of the same schedule don't query the task repository each time. Launches and stops made on this
+ * node are applied to the view immediately, so a fire right after a launch sees the new execution
+ * even before the view is refreshed. Snapshots older than the time-to-live would be read again on
+ * the next fire anyway, so they are dropped at most once per time-to-live; the view only holds the
+ * schedules that fired recently, and unscheduled schedules leave it.
+ */
+public class RunningTaskExecutions {
+
+    private static final String SELECT_EXECUTIONS =
+        "SELECT EXECUTION_ID, SCHEMA_TARGET FROM {0}SCDF_SCHEDULE_EXECUTION " +
+        "WHERE SCHED_NAME = ? AND SCHEDULE_NAME = ?";
+
+    private static final String INSERT_EXECUTION =
+        "INSERT INTO {0}SCDF_SCHEDULE_EXECUTION (SCHED_NAME, SCHEDULE_NAME, EXECUTION_ID, SCHEMA_TARGET, LAUNCHED_AT) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_EXECUTION =
+        "DELETE FROM {0}SCDF_SCHEDULE_EXECUTION WHERE SCHED_NAME = ? AND SCHEDULE_NAME = ? AND EXECUTION_ID = ?";
+
+    private final TaskExplorer taskExplorer;
+    private final JdbcTemplate jdbcTemplate;
+    private final String tablePrefix;
+    private final String schedulerName;
+    private final long timeToLiveMillis;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile long lastEviction;
+
+    /**
+     * Creates a new RunningTaskExecutions view.
+     *
+     * @param taskExplorer The explorer of the task repository
+     * @param dataSource The datasource holding the Quartz tables
+     * @param tablePrefix The Quartz table prefix, e.g. {@code QRTZ_}
+     * @param schedulerName The Quartz scheduler name used as SCHED_NAME
+     * @param timeToLive The time after which the running executions of a schedule are read again
+     */
+    public RunningTaskExecutions(TaskExplorer taskExplorer, DataSource dataSource, String tablePrefix,
+                                 String schedulerName, Duration timeToLive) {
+        this.taskExplorer = taskExplorer;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tablePrefix = tablePrefix;
+        this.schedulerName = schedulerName;
+        this.timeToLiveMillis = timeToLive.toMillis();
+    }
+
+    /**
+     * Returns the running executions launched by a schedule.
+     *
+     * @param scheduleName The schedule name
+     * @param taskName The task name of the schedule
+     * @return The schema target of each running execution by execution id, possibly up to one
+     *         time-to-live old; the schema target may be null
+     */
+    public Map<Long, String> find(String scheduleName, String taskName) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+        Snapshot snapshot = snapshots.get(scheduleName);
+        if (snapshot == null || now - snapshot.loadedAt >= timeToLiveMillis) {
+            snapshot = new Snapshot(load(scheduleName, taskName), now);
+            snapshots.put(scheduleName, snapshot);
+        }
+        return snapshot.executions;
+    }
+
+    /**
+     * Records an execution launched by a schedule.
+     *
+     * @param scheduleName The schedule name
+     * @param executionId The id of the launched execution
+     * @param schemaTarget The schema target of the launched execution, may be null
+     */
+    public void launched(String scheduleName, long executionId, String schemaTarget) {
+        jdbcTemplate.update(sql(INSERT_EXECUTION), schedulerName, scheduleName, executionId, schemaTarget,
+            System.currentTimeMillis());
+        snapshots.computeIfPresent(scheduleName, (name, snapshot) -> {
+            Map<Long, String> executions = new LinkedHashMap<>(snapshot.executions);
+            executions.put(executionId, schemaTarget);
+            return new Snapshot(executions, snapshot.loadedAt);
+        });
+    }
+
+    /**
+     * Removes executions of a schedule that were stopped on this node.
+     *
+     * @param scheduleName The schedule name
+     * @param executionIds The ids of the stopped executions
+     */
+    public void stopped(String scheduleName, Collection<Long> executionIds) {
+        for (Long executionId : executionIds) {
+            jdbcTemplate.update(sql(DELETE_EXECUTION), schedulerName, scheduleName, executionId);
+        }
+        snapshots.computeIfPresent(scheduleName, (name, snapshot) -> {
+            Map<Long, String> remaining = new LinkedHashMap<>(snapshot.executions);
+            remaining.keySet().removeAll(executionIds);
+            return new Snapshot(remaining, snapshot.loadedAt);
+        });
+    }
+
+    /**
+     * Drops the snapshots that have outlived the time-to-live, at most once per time-to-live.
+     */
+    private void evictExpired(long now) {
+        if (now - lastEviction < timeToLiveMillis) return;
+        lastEviction = now;
+        snapshots.values().removeIf(snapshot -> now - snapshot.loadedAt >= timeToLiveMillis);
+    }
+
+    /**
+     * Reads the recorded executions of a schedule and keeps those still running,
+     * removing the records of executions that have ended.
+     */
+    private Map<Long, String> load(String scheduleName, String taskName) {
+        Map<Long, String> recorded = new LinkedHashMap<>();
+        jdbcTemplate.query(sql(SELECT_EXECUTIONS),
+            (RowCallbackHandler) rs -> recorded.put(rs.getLong("EXECUTION_ID"), rs.getString("SCHEMA_TARGET")),
+            schedulerName, scheduleName);
+
+        Map<Long, String> running = new LinkedHashMap<>();
+        for (Map.Entry<Long, String> entry : recorded.entrySet()) {
+            TaskExecution execution = taskExplorer.getTaskExecution(entry.getKey());
+            if (execution != null && execution.getEndTime() == null && taskName.equals(execution.getTaskName())) {
+                running.put(entry.getKey(), entry.getValue());
+            } else {
+                jdbcTemplate.update(sql(DELETE_EXECUTION), schedulerName, scheduleName, entry.getKey());
+            }
+        }
+        return running;
+    }
+
+    private String sql(String query) {
+        return query.replace("{0}", tablePrefix);
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Long, String> executions;
+        private final long loadedAt;
+
+        private Snapshot(Map<Long, String> executions, long loadedAt) {
+            this.executions = Collections.unmodifiableMap(executions);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decouples trigger fires from task launches. A fired job hands its launch to this dispatcher
+ * and returns immediately, so Quartz worker threads are not held by the database work and
+ * process spawning of {@code TaskExecutionService.executeTask}.
+ *
+ * <p>Launches are executed by a fixed number of dedicated launch threads from a bounded queue.
+ * When the queue is full, the configured {@link BackpressurePolicy} decides whether the firing
+ * thread blocks, the launch is dropped, or the launch is deferred.
+ * The queue is ordered by trigger priority, highest first, and by dispatch order within a priority,
+ * so queued launches of high-priority triggers never wait behind launches of lower priority.
+ * Under sustained load of high-priority launches, lower-priority launches may wait until it ends.
+ *
+ * <p>Optionally, a number of launch threads can be reserved for launches of high-priority
+ * triggers. High-priority launches run on an idle reserved thread if there is one, so they never
+ * wait for a shared thread while reserved capacity is free; otherwise they are queued ahead of
+ * lower-priority launches. Reserved threads stay idle when there are no high-priority launches.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code quartz.launch.queue.depth}: launches waiting in the queue</li>
+ *   <li>{@code quartz.launch.active}: launches currently executing on shared launch threads</li>
+ *   <li>{@code quartz.launch.reserved.active}: launches currently executing on reserved launch threads</li>
+ *   <li>{@code quartz.launch.dispatched}: dispatched launches, tagged {@code outcome=accepted|shed|deferred}</li>
+ *   <li>{@code quartz.launch.queue.wait}: time launches spent in the queue</li>
+ * </ul>
+ *
+ * @see com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzExecutionJob
+ */
+public class TaskLaunchDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLaunchDispatcher.class);
+
+    // How long shutdown waits for queued launches before interrupting them
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+    // Null if no launch threads are reserved
+    private final ThreadPoolExecutor reservedExecutor;
+    private final int reservedPriority;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Duration deferDelay;
+    private final Counter accepted;
+    private final Counter shed;
+    private final Counter deferred;
+    private final Timer queueWait;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a new TaskLaunchDispatcher without reserved launch threads and starts its launch threads.
+     *
+     * @param threads The number of launch threads
+     * @param queueCapacity The maximum number of launches waiting for a launch thread
+     * @param backpressurePolicy The behavior when the queue is full
+     * @param deferDelay The delay after which deferred launches are fired again
+     * @param meterRegistry The registry for launch metrics
+     */
+    public TaskLaunchDispatcher(int threads, int queueCapacity, BackpressurePolicy backpressurePolicy,
+                                Duration deferDelay, MeterRegistry meterRegistry) {
+        this(threads, queueCapacity, backpressurePolicy, deferDelay, 0, Integer.MAX_VALUE, meterRegistry);
+    }
+
+    /**
+     * Creates a new TaskLaunchDispatcher and starts its launch threads.
+     *
+     * @param threads The number of shared launch threads
+     * @param queueCapacity The maximum number of launches waiting for a shared launch thread
+     * @param backpressurePolicy The behavior when the queue is full
+     * @param deferDelay The delay after which deferred launches are fired again
+     * @param reservedThreads The number of additional launch threads reserved for high-priority launches, 0 for none
+     * @param reservedPriority The minimum trigger priority of launches that may use the reserved threads
+     * @param meterRegistry The registry for launch metrics
+     */
+    public TaskLaunchDispatcher(int threads, int queueCapacity, BackpressurePolicy backpressurePolicy,
+                                Duration deferDelay, int reservedThreads, int reservedPriority,
+                                MeterRegistry meterRegistry) {
+        this.queue = new BoundedPriorityQueue(queueCapacity);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+            new CustomizableThreadFactory("quartz-launch-"), new ThreadPoolExecutor.AbortPolicy());
+        // All threads run from the start, so blocking puts into the queue are always drained
+        this.executor.prestartAllCoreThreads();
+        if (reservedThreads > 0) {
+            // Hands launches over to idle reserved threads only, without queueing
+            this.reservedExecutor = new ThreadPoolExecutor(reservedThreads, reservedThreads, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("quartz-launch-reserved-"),
+                new ThreadPoolExecutor.AbortPolicy());
+            this.reservedExecutor.prestartAllCoreThreads();
+            Gauge.builder("quartz.launch.reserved.active", reservedExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        } else {
+            this.reservedExecutor = null;
+        }
+        this.reservedPriority = reservedPriority;
+        this.backpressurePolicy = backpressurePolicy;
+        this.deferDelay = deferDelay;
+
+        this.accepted = dispatchCounter("accepted", meterRegistry);
+        this.shed = dispatchCounter("shed", meterRegistry);
+        this.deferred = dispatchCounter("deferred", meterRegistry);
+        this.queueWait = Timer.builder("quartz.launch.queue.wait").register(meterRegistry);
+        Gauge.builder("quartz.launch.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("quartz.launch.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * Hands a launch to the shared launch threads.
+     * The launch is responsible for handling and logging its own failures.
+     *
+     * @param scheduleName The name of the fired schedule, used for logging
+     * @param launch The launch to execute
+     * @return Whether the launch was accepted, shed or has to be deferred
+     * @throws RejectedExecutionException if the dispatcher has been shut down
+     */
+    public DispatchOutcome dispatch(String scheduleName, Runnable launch) {
+        return dispatch(scheduleName, Integer.MIN_VALUE, launch);
+    }
+
+    /**
+     * Hands a launch to the launch threads. Launches with at least the reserved priority run on
+     * an idle reserved thread if there is one.
+     * The launch is responsible for handling and logging its own failures.
+     *
+     * @param scheduleName The name of the fired schedule, used for logging
+     * @param priority The priority of the fired trigger
+     * @param launch The launch to execute
+     * @return Whether the launch was accepted, shed or has to be deferred
+     * @throws RejectedExecutionException if the dispatcher has been shut down
+     */
+    public DispatchOutcome dispatch(String scheduleName, int priority, Runnable launch) {
+        long enqueuedAt = System.nanoTime();
+        Runnable task = new PrioritizedLaunch(priority, sequence.getAndIncrement(), () -> {
+            queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            launch.run();
+        });
+
+        if (reservedExecutor != null && priority >= reservedPriority) {
+            try {
+                reservedExecutor.execute(task);
+                accepted.increment();
+                return DispatchOutcome.ACCEPTED;
+            } catch (RejectedExecutionException e) {
+                if (reservedExecutor.isShutdown()) throw e;
+                logger.debug("No reserved launch thread idle, queueing launch of schedule {}", scheduleName);
+            }
+        }
+
+        try {
+            executor.execute(task);
+            accepted.increment();
+            return DispatchOutcome.ACCEPTED;
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) throw e;
+        }
+
+        switch (backpressurePolicy) {
+            case BLOCK:
+                enqueue(scheduleName, task);
+                accepted.increment();
+                return DispatchOutcome.ACCEPTED;
+            case DEFER:
+                logger.warn("Launch queue is full, deferring launch of schedule {} by {}", scheduleName, deferDelay);
+                deferred.increment();
+                return DispatchOutcome.DEFERRED;
+            default:
+                logger.warn("Launch queue is full, dropping launch of schedule {}", scheduleName);
+                shed.increment();
+                return DispatchOutcome.SHED;
+        }
+    }
+
+    /**
+     * Returns the delay after which deferred launches should be fired again.
+     *
+     * @return The defer delay
+     */
+    public Duration getDeferDelay() {
+        return deferDelay;
+    }
+
+    /**
+     * Returns the number of launches waiting for a launch thread.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting launches and waits for queued launches to complete.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        if (reservedExecutor != null) reservedExecutor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Launches still running after {}s, interrupting {} queued and active launches",
+                    SHUTDOWN_TIMEOUT_SECONDS, queue.size() + executor.getActiveCount());
+                executor.shutdownNow();
+            }
+            // Reserved launches had the same time to complete
+            if (reservedExecutor != null && !reservedExecutor.awaitTermination(0, TimeUnit.SECONDS)) {
+                reservedExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            if (reservedExecutor != null) reservedExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the queue has room for the task.
+     */
+    private void enqueue(String scheduleName, Runnable task) {
+        logger.debug("Launch queue is full, waiting to queue launch of schedule {}", scheduleName);
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to queue launch of schedule " + scheduleName, e);
+        }
+        // The launch threads may have exited while this thread was waiting
+        if (executor.isShutdown() && queue.remove(task)) {
+            throw new RejectedExecutionException("Launch dispatcher has been shut down");
+        }
+    }
+
+    private static Counter dispatchCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("quartz.launch.dispatched")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * A launch ordered by trigger priority, highest first, then by dispatch order.
+     */
+    private static final class PrioritizedLaunch implements Runnable, Comparable<PrioritizedLaunch> {
+
+        private static final Comparator<PrioritizedLaunch> ORDER = Comparator
+            .comparingInt((PrioritizedLaunch launch) -> launch.priority).reversed()
+            .thenComparingLong(launch -> launch.sequence);
+
+        private final int priority;
+        private final long sequence;
+        private final Runnable launch;
+
+        private PrioritizedLaunch(int priority, long sequence, Runnable launch) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.launch = launch;
+        }
+
+        @Override
+        public void run() {
+            launch.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedLaunch other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Priority queue holding at most a fixed number of launches. {@link PriorityBlockingQueue} is
+     * unbounded, so the capacity is enforced with permits taken when a launch is added and returned
+     * when it is removed.
+     */
+    private static final class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+
+        // Initial capacity of the backing array, which grows up to the queue capacity
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final Semaphore permits;
+
+        private BoundedPriorityQueue(int capacity) {
+            super(Math.min(capacity, INITIAL_CAPACITY));
+            this.permits = new Semaphore(capacity);
+        }
+
+        @Override
+        public boolean offer(Runnable launch) {
+            if (!permits.tryAcquire()) return false;
+            return super.offer(launch);
+        }
+
+        @Override
+        public boolean add(Runnable launch) {
+            if (!offer(launch)) throw new IllegalStateException("Launch queue is full");
+            return true;
+        }
+
+        @Override
+        public boolean offer(Runnable launch, long timeout, TimeUnit unit) throws InterruptedException {
+            if (!permits.tryAcquire(timeout, unit)) return false;
+            return super.offer(launch);
+        }
+
+        @Override
+        public void put(Runnable launch) throws InterruptedException {
+            permits.acquire();
+            super.offer(launch);
+        }
+
+        @Override
+        public Runnable take() throws InterruptedException {
+            return released(super.take());
+        }
+
+        @Override
+        public Runnable poll() {
+            return released(super.poll());
+        }
+
+        @Override
+        public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return released(super.poll(timeout, unit));
+        }
+
+        @Override
+        public boolean remove(Object launch) {
+            if (!super.remove(launch)) return false;
+            permits.release();
+            return true;
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> target) {
+            return drainTo(target, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> target, int maxElements) {
+            int drained = super.drainTo(target, maxElements);
+            if (drained > 0) permits.release(drained);
+            return drained;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return permits.availablePermits();
+        }
+
+        private Runnable released(Runnable launch) {
+            if (launch != null) permits.release();
+            return launch;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
 
 import org.jetbrains.annotations.NotNull;
+import org.quartz.InterruptableJob;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.UnableToInterruptJobException;
 import org.quartz.spi.TriggerFiredBundle;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.scheduling.quartz.SpringBeanJobFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Custom implementation of SpringBeanJobFactory that adds autowiring support to Quartz Job instances.
  * This factory ensures that Spring dependency injection works properly for Quartz Jobs.
@@ -19,8 +26,20 @@ import org.springframework.scheduling.quartz.SpringBeanJobFactory;
  *   <li>Adds support for dependency injection in Quartz Jobs</li>
  *   <li>Integrates Quartz job instantiation with Spring's bean factory</li>
  *   <li>Enables use of {@code @Autowired} in Quartz Job classes</li>
+ *   <li>Reuses a single instance of jobs annotated with {@link SharedJobInstance}</li>
+ *   <li>Interrupts single fires of jobs implementing {@link FireInterruptableJob}</li>
  * </ul>
  *
+ * <p>Creating and autowiring a job instance is reflective work done on every trigger fire.
+ * Jobs marked with {@link SharedJobInstance} are created and autowired once per job class,
+ * so later fires only pay for a map lookup. This can be turned off with
+ * {@link #setSharedInstances(boolean)}.
+ *
+ * <p>Fires of a {@link FireInterruptableJob} run on a small per-fire handle delegating to the job
+ * instance, so that interrupting one fire does not interrupt the other fires of a shared instance.
+ * Quartz reads {@code @DisallowConcurrentExecution} from the job class of the JobDetail, not from the
+ * instance, so fires of the same JobDetail remain serialized.
+ *
  * <p>Usage example:
  * <pre>{@code
  * @Bean
@@ -41,6 +60,11 @@ public class AutowiringSpringBeanJobFactory extends SpringBeanJobFactory {
     // Spring's bean factory used for autowiring job instances
     private final AutowireCapableBeanFactory beanFactory;
 
+    // Fully autowired instances of shared job classes
+    private final Map<Class<?>, Object> sharedJobs = new ConcurrentHashMap<>();
+
+    private boolean sharedInstances = true;
+
     /**
      * Creates a new AutowiringSpringBeanJobFactory with the specified bean factory.
      *
@@ -54,11 +78,22 @@ public class AutowiringSpringBeanJobFactory extends SpringBeanJobFactory {
         this.beanFactory = beanFactory;
     }
 
+    /**
+     * Sets whether jobs annotated with {@link SharedJobInstance} reuse a single instance.
+     * Defaults to true.
+     *
+     * @param sharedInstances false to create a new instance for every fire
+     */
+    public void setSharedInstances(boolean sharedInstances) {
+        this.sharedInstances = sharedInstances;
+    }
+
     /**
      * Creates a new job instance and applies Spring autowiring to it.
      * This method is called by Quartz when a new job instance needs to be created.
      *
-     * <p>The process involves:
+     * <p>Jobs annotated with {@link SharedJobInstance} are created once through the bean factory
+     * and that instance is returned for every later fire. For all other jobs the process involves:
      * <ol>
      *   <li>Creating the job instance using the superclass implementation</li>
      *   <li>Applying Spring autowiring to the created instance</li>
@@ -72,12 +107,51 @@ public class AutowiringSpringBeanJobFactory extends SpringBeanJobFactory {
     @NotNull
     @Override
     protected Object createJobInstance(@NotNull TriggerFiredBundle bundle) throws Exception {
-        // Create the job instance using the default SpringBeanJobFactory behavior
-        Object job = super.createJobInstance(bundle);
-        
-        // Apply Spring autowiring to the created job instance
-        beanFactory.autowireBean(job);
-        
+        Class<?> jobClass = bundle.getJobDetail().getJobClass();
+        Object job;
+        if (sharedInstances && jobClass.isAnnotationPresent(SharedJobInstance.class)) {
+            // Constructor and field injection in one step, without job data binding
+            job = sharedJobs.computeIfAbsent(jobClass, beanFactory::createBean);
+        } else {
+            // Create the job instance using the default SpringBeanJobFactory behavior
+            job = super.createJobInstance(bundle);
+
+            // Apply Spring autowiring to the created job instance
+            beanFactory.autowireBean(job);
+        }
+
+        if (job instanceof FireInterruptableJob) {
+            return new InterruptableFire((FireInterruptableJob) job, bundle.getTrigger().getFireInstanceId());
+        }
         return job;
     }
+
+    /**
+     * Handle of a single fire of a {@link FireInterruptableJob}, through which Quartz executes and
+     * interrupts that fire.
+     */
+    static final class InterruptableFire implements InterruptableJob {
+
+        private final FireInterruptableJob job;
+        private final String fireInstanceId;
+
+        InterruptableFire(FireInterruptableJob job, String fireInstanceId) {
+            this.job = job;
+            this.fireInstanceId = fireInstanceId;
+        }
+
+        FireInterruptableJob getJob() {
+            return job;
+        }
+
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            job.execute(context);
+        }
+
+        @Override
+        public void interrupt() throws UnableToInterruptJobException {
+            job.interrupt(fireInstanceId);
+        }
+    }
 } 
\ No newline at end of file
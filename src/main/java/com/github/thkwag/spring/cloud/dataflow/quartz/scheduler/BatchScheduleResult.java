@@ -0,0 +1,54 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch schedule operation, reported per schedule.
+ *
+ * @see QuartzScheduler#scheduleAll(java.util.Collection)
+ * @see QuartzScheduler#unscheduleAll(java.util.Collection)
+ */
+public class BatchScheduleResult {
+
+    private final List<String> succeeded = new ArrayList<>();
+    private final Map<String, Exception> failures = new LinkedHashMap<>();
+
+    void addSuccess(String scheduleName) {
+        succeeded.add(scheduleName);
+    }
+
+    void addFailure(String scheduleName, Exception failure) {
+        failures.put(scheduleName, failure);
+    }
+
+    /**
+     * Returns the names of the schedules that were processed successfully.
+     *
+     * @return The successful schedule names, in processing order
+     */
+    public List<String> getSucceeded() {
+        return Collections.unmodifiableList(succeeded);
+    }
+
+    /**
+     * Returns the failure of each schedule that could not be processed.
+     *
+     * @return The failures by schedule name
+     */
+    public Map<String, Exception> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Checks whether every schedule was processed successfully.
+     *
+     * @return true if there were no failures
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.quartz.InterruptableJob;
+import org.quartz.Job;
+import org.quartz.UnableToInterruptJobException;
+
+/**
+ * A Quartz {@link Job} that interrupts single fires rather than its whole instance.
+ *
+ * <p>Quartz interrupts a fire by calling {@link InterruptableJob#interrupt()} on the job instance
+ * the fire runs on. A {@link SharedJobInstance} serves the fires of all schedules at once, so it
+ * cannot tell from that call which fire to interrupt. {@link AutowiringSpringBeanJobFactory} therefore
+ * hands Quartz a lightweight interruptable handle per fire, which passes the fire instance id on.
+ *
+ * @see AutowiringSpringBeanJobFactory
+ */
+public interface FireInterruptableJob extends Job {
+
+    /**
+     * Interrupts a single fire of this job.
+     *
+     * @param fireInstanceId The fire instance id of the fire to interrupt
+     * @throws UnableToInterruptJobException if the fire cannot be interrupted
+     */
+    void interrupt(String fireInstanceId) throws UnableToInterruptJobException;
+}
@@ -0,0 +1,101 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.ConcurrencyPolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RetryPolicy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoded launch information of a schedule: the task definition name, deployment properties,
+ * command-line arguments and launch options stored in the job's {@code properties} payload.
+ * Instances are immutable and shared between fires of the same job.
+ *
+ * @see LaunchPayloadCache
+ * @see QuartzExecutionJob
+ */
+public final class LaunchPayload {
+
+    private final String taskName;
+    private final Map<String, String> properties;
+    private final List<String> arguments;
+    private final long jitterMillis;
+    private final ConcurrencyPolicy concurrencyPolicy;
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Creates a new LaunchPayload.
+     *
+     * @param taskName The task definition name
+     * @param properties The deployment properties
+     * @param arguments The command-line arguments
+     * @param jitterMillis The jitter window of cron fires in milliseconds, 0 for none
+     * @param concurrencyPolicy The behavior when an earlier execution of the task is still running
+     * @param retryPolicy The behavior when the launch fails
+     */
+    public LaunchPayload(String taskName, Map<String, String> properties, List<String> arguments,
+                         long jitterMillis, ConcurrencyPolicy concurrencyPolicy, RetryPolicy retryPolicy) {
+        this.taskName = taskName;
+        this.properties = Collections.unmodifiableMap(properties);
+        this.arguments = Collections.unmodifiableList(arguments);
+        this.jitterMillis = jitterMillis;
+        this.concurrencyPolicy = concurrencyPolicy;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Returns the task definition name.
+     *
+     * @return The task definition name
+     */
+    public String getTaskName() {
+        return taskName;
+    }
+
+    /**
+     * Returns the deployment properties.
+     *
+     * @return An unmodifiable map of deployment properties
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the command-line arguments.
+     *
+     * @return An unmodifiable list of command-line arguments
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns the window within which cron fires are shifted by a per-schedule offset.
+     *
+     * @return The jitter window in milliseconds, 0 for none
+     * @see QuartzScheduler#jitterOffsetMillis(String, long)
+     */
+    public long getJitterMillis() {
+        return jitterMillis;
+    }
+
+    /**
+     * Returns the behavior when an earlier execution of the task is still running.
+     *
+     * @return The concurrency policy
+     */
+    public ConcurrencyPolicy getConcurrencyPolicy() {
+        return concurrencyPolicy;
+    }
+
+    /**
+     * Returns the behavior when the launch fails.
+     *
+     * @return The retry policy, {@link RetryPolicy#NONE} if failed launches are not retried
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.ConcurrencyPolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RetryPolicy;
+import org.quartz.JobDataMap;
+import org.quartz.JobKey;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded least-recently-used cache of decoded {@link LaunchPayload}s, so that repeated fires
+ * of a job reuse the payload decoded on the first fire instead of parsing the JSON again.
+ *
+ * <p>Entries are keyed by {@link JobKey} and validated against the payload hash stored with the job
+ * (see {@link QuartzScheduler#PAYLOAD_HASH_KEY}). Jobs stored before the hash was introduced are
+ * validated against the raw payload string instead. A changed schedule therefore replaces its entry
+ * on the next fire, and each job occupies at most one entry.
+ *
+ * @see QuartzExecutionJob
+ */
+public class LaunchPayloadCache {
+
+    // Name of the job data entry holding the schedule payload
+    private static final String PROPERTIES_KEY = "properties";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<JobKey, Entry> entries;
+
+    /**
+     * Creates a new LaunchPayloadCache.
+     *
+     * @param maxSize The maximum number of cached payloads
+     */
+    public LaunchPayloadCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JobKey, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the decoded payload of a job, decoding and caching it if needed.
+     *
+     * @param jobKey The key of the fired job
+     * @param jobDataMap The merged job data of the fire
+     * @return The decoded payload
+     * @throws IOException if the payload cannot be parsed
+     */
+    public LaunchPayload get(JobKey jobKey, JobDataMap jobDataMap) throws IOException {
+        String json = jobDataMap.getString(PROPERTIES_KEY);
+        String hash = jobDataMap.getString(QuartzScheduler.PAYLOAD_HASH_KEY);
+        String version = hash != null ? hash : json;
+
+        synchronized (entries) {
+            Entry entry = entries.get(jobKey);
+            if (entry != null && Objects.equals(entry.version, version)) {
+                return entry.payload;
+            }
+        }
+
+        // Decode outside the lock; concurrent first fires of one job at worst decode twice
+        LaunchPayload payload = decode(json);
+        synchronized (entries) {
+            entries.put(jobKey, new Entry(version, payload));
+        }
+        return payload;
+    }
+
+    /**
+     * Returns the number of cached payloads.
+     *
+     * @return The cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static LaunchPayload decode(String json) throws IOException {
+        JsonNode jsonNode = objectMapper.readTree(json);
+
+        String taskName = jsonNode.path("definition").path("name").asText();
+
+        // Convert deployment properties with type safety
+        Map<String, String> properties = jsonNode.path("deploymentProperties").isEmpty()
+            ? new HashMap<>()
+            : objectMapper.convertValue(jsonNode.path("deploymentProperties"),
+                new TypeReference<Map<String, String>>() {});
+
+        // Convert command-line arguments with type safety
+        List<String> arguments = jsonNode.path("commandlineArguments").isEmpty()
+            ? new ArrayList<>()
+            : objectMapper.convertValue(jsonNode.path("commandlineArguments"),
+                new TypeReference<List<String>>() {});
+
+        ConcurrencyPolicy concurrencyPolicy = jsonNode.hasNonNull("concurrencyPolicy")
+            ? ConcurrencyPolicy.valueOf(jsonNode.path("concurrencyPolicy").asText())
+            : ConcurrencyPolicy.ALLOW;
+
+        JsonNode retryNode = jsonNode.path("retry");
+        RetryPolicy retryPolicy = retryNode.isObject()
+            ? new RetryPolicy(retryNode.path("maxAttempts").asInt(1),
+                Duration.ofMillis(retryNode.path("backoffMillis").asLong()),
+                Duration.ofMillis(retryNode.path("maxBackoffMillis").asLong()),
+                retryNode.path("multiplier").asDouble(1))
+            : RetryPolicy.NONE;
+
+        return new LaunchPayload(taskName, properties, arguments, jsonNode.path("jitterMillis").asLong(),
+            concurrencyPolicy, retryPolicy);
+    }
+
+    private static final class Entry {
+        private final String version;
+        private final LaunchPayload payload;
+
+        private Entry(String version, LaunchPayload payload) {
+            this.version = version;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.quartz.CronTrigger;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Global trigger listener counting misfired triggers by misfire policy,
+ * published as {@code quartz.trigger.misfires} tagged {@code policy=fire-once-now|skip-to-next|catch-up}.
+ *
+ * @see MisfirePolicy
+ */
+public class MisfireMetricsListener extends TriggerListenerSupport {
+
+    private final Map<MisfirePolicy, Counter> misfires = new EnumMap<>(MisfirePolicy.class);
+
+    /**
+     * Creates a new MisfireMetricsListener.
+     *
+     * @param meterRegistry The registry for misfire metrics
+     */
+    public MisfireMetricsListener(MeterRegistry meterRegistry) {
+        for (MisfirePolicy policy : MisfirePolicy.values()) {
+            misfires.put(policy, Counter.builder("quartz.trigger.misfires")
+                .tag("policy", policy.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "misfire-metrics";
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        misfires.get(policyOf(trigger)).increment();
+    }
+
+    /**
+     * Determines the policy of a trigger from its data, or from its misfire instruction
+     * for triggers created before misfire policies were stored.
+     */
+    private static MisfirePolicy policyOf(Trigger trigger) {
+        String policy = trigger.getJobDataMap().getString(QuartzScheduler.MISFIRE_POLICY_KEY);
+        if (policy != null) {
+            try {
+                return MisfirePolicy.valueOf(policy);
+            } catch (IllegalArgumentException ignored) {
+                // Fall back to the misfire instruction
+            }
+        }
+        return trigger.getMisfireInstruction() == CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING
+            ? MisfirePolicy.SKIP_TO_NEXT
+            : MisfirePolicy.FIRE_ONCE_NOW;
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Behavior when a cron trigger missed one or more fires, e.g. during downtime or a long GC pause.
+ * Set per schedule with the deployment property {@code scheduler.misfire-policy}, or globally with
+ * {@code spring.cloud.dataflow.scheduler.quartz.misfire.policy}.
+ *
+ * <p>Recovery fires of all policies are admitted through the cluster-wide recovery budget
+ * (see {@link MisfireRecovery}), so a recovery after downtime cannot turn into a launch storm.
+ */
+public enum MisfirePolicy {
+
+    /**
+     * Fires once immediately, then continues with the regular schedule.
+     */
+    FIRE_ONCE_NOW,
+
+    /**
+     * Skips the missed fires and waits for the next regular fire.
+     */
+    SKIP_TO_NEXT,
+
+    /**
+     * Launches the missed fires, up to the schedule's catch-up limit, then continues with the regular schedule.
+     */
+    CATCH_UP;
+
+    /**
+     * Parses a policy name case-insensitively, accepting both {@code fire-once-now} and {@code FIRE_ONCE_NOW}.
+     *
+     * @param value The policy name
+     * @return The policy
+     * @throws IllegalArgumentException if the policy is unknown
+     */
+    public static MisfirePolicy parse(String value) {
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Misfire policy must be one of "
+                + Arrays.toString(values()) + ": " + value);
+        }
+    }
+}
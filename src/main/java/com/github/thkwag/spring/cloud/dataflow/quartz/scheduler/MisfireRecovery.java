@@ -0,0 +1,55 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.LaunchRateLimiter;
+
+/**
+ * Cluster-wide cap on the rate of misfire recovery fires, so that schedules recovering from
+ * downtime are launched at a bounded rate instead of all at once.
+ * Recovery fires that exceed the budget are retried after a short delay.
+ *
+ * @see MisfirePolicy
+ * @see QuartzExecutionJob
+ */
+public class MisfireRecovery {
+
+    /**
+     * Name of the recovery budget.
+     */
+    public static final String RECOVERY_BUCKET = "misfire-recovery";
+
+    private final LaunchRateLimiter recoveryBudget;
+
+    /**
+     * Creates a new MisfireRecovery.
+     *
+     * @param recoveryBudget The rate limiter of the recovery bucket, or null for no limit
+     */
+    public MisfireRecovery(LaunchRateLimiter recoveryBudget) {
+        this.recoveryBudget = recoveryBudget;
+    }
+
+    /**
+     * Tries to admit a recovery fire.
+     *
+     * @param scheduleName The name of the recovering schedule
+     * @return true if the fire may launch now, false if it must be retried later
+     */
+    public boolean tryAdmit(String scheduleName) {
+        if (recoveryBudget == null) return true;
+
+        LaunchRateLimiter.Permit permit = recoveryBudget.tryAcquire(scheduleName);
+        if (permit == null) return false;
+        // Only the rate is limited, there is no lease to hold
+        permit.release();
+        return true;
+    }
+
+    /**
+     * Returns the delay after which a recovery fire over budget should be retried.
+     *
+     * @return The delay in milliseconds
+     */
+    public long nextDeferDelayMillis() {
+        return recoveryBudget != null ? recoveryBudget.nextDeferDelayMillis() : 0;
+    }
+}
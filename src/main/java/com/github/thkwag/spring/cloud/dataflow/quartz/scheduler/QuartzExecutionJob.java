@@ -1,18 +1,32 @@
 package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
 
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.ConcurrencyPolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.DispatchOutcome;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.LaunchRateLimiter;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.LaunchWatchdog;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RetryPolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RunningTaskExecutions;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.TaskLaunchDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.quartz.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cloud.dataflow.core.LaunchResponse;
 import org.springframework.cloud.dataflow.server.service.TaskExecutionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.quartz.QuartzJobBean;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Quartz Job implementation for executing Spring Cloud Data Flow tasks.
@@ -20,10 +34,25 @@ import java.util.Map;
  *
  * <p>Key features:
  * <ul>
- *   <li>Prevents concurrent execution of the same job instance</li>
+ *   <li>Prevents concurrent execution of the same schedule</li>
  *   <li>Integrates with Spring Cloud Data Flow's task execution service</li>
  *   <li>Supports task properties and command-line arguments</li>
  *   <li>Provides proper error handling and logging</li>
+ *   <li>Stateless, a single instance serves all fires (see {@link SharedJobInstance}); the state of a
+ *       fire is kept in its {@link JobExecutionContext} and trigger data, never in fields</li>
+ *   <li>Hands launches to the {@link TaskLaunchDispatcher} if one is available, so the Quartz
+ *       worker thread is released before the task is launched</li>
+ *   <li>Skips or replaces still running executions launched by the schedule according to its {@link ConcurrencyPolicy}</li>
+ *   <li>Launches missed fires according to the trigger's {@link MisfirePolicy}, admitting recovery
+ *       fires through the cluster-wide {@link MisfireRecovery} budget</li>
+ *   <li>Shifts cron fires by a stable per-schedule offset if the schedule has a jitter window</li>
+ *   <li>Enforces the cluster-wide launch budget of the {@link LaunchRateLimiter} if one is available</li>
+ *   <li>Retries failed launches with exponential backoff according to the schedule's {@link RetryPolicy},
+ *       through one-shot triggers instead of sleeping worker threads; launches that timed out or were
+ *       cancelled may still have started the task and are not retried</li>
+ *   <li>Bounds each launch call by the timeout of the {@link LaunchWatchdog} if one is available;
+ *       interrupting a fire cancels the launch calls of that fire</li>
+ *   <li>Decodes the payload once per job and reuses it on later fires (see {@link LaunchPayloadCache})</li>
  * </ul>
  *
  * <p>The job expects the following data in the JobDataMap:
@@ -50,24 +79,88 @@ import java.util.Map;
  * }
  * }</pre>
  *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code quartz.launch.retries}: retries scheduled after failed launch attempts</li>
+ *   <li>{@code quartz.launch.failures}: launches that failed on their last attempt</li>
+ *   <li>{@code quartz.launch.attempts}: attempts per launch, tagged {@code result=success|failure}</li>
+ * </ul>
+ *
  * @see org.springframework.cloud.dataflow.server.service.TaskExecutionService
  * @see org.springframework.cloud.deployer.spi.task.TaskLauncher
  */
 @DisallowConcurrentExecution
-public class QuartzExecutionJob extends QuartzJobBean {
+@SharedJobInstance
+public class QuartzExecutionJob implements FireInterruptableJob {
     
     private static final Logger logger = LoggerFactory.getLogger(QuartzExecutionJob.class);
+
+    // Maximum number of decoded payloads kept across fires
+    private static final int PAYLOAD_CACHE_SIZE = 10_000;
+
+    // Trigger data key marking one-shot fires that recover missed fires
+    private static final String RECOVERY_FIRE_KEY = "misfireRecovery";
+
+    // Trigger data key of the launch attempt of retry fires, the first attempt has none
+    private static final String ATTEMPT_KEY = "launchAttempt";
+
+    // Delay between the additional fires launching missed fires
+    private static final long CATCH_UP_SPACING_MILLIS = 1000;
+
+    // Static, so that payloads are also reused when shared job instances are disabled and every fire gets a new instance
+    private static final LaunchPayloadCache payloadCache = new LaunchPayloadCache(PAYLOAD_CACHE_SIZE);
+
     private final TaskExecutionService taskService;
-    private final ObjectMapper objectMapper;
+
+    // Null if launches run synchronously on the Quartz worker thread
+    private final TaskLaunchDispatcher launchDispatcher;
+
+    // Null if launches are not rate limited
+    private final LaunchRateLimiter rateLimiter;
+
+    // Null if concurrency policies are not enforced
+    private final RunningTaskExecutions runningExecutions;
+
+    // Null if recovery fires are not rate limited
+    private final MisfireRecovery misfireRecovery;
+
+    // Null if launch calls are not bounded by a timeout
+    private final LaunchWatchdog launchWatchdog;
+
+    private final Counter retries;
+    private final Counter failures;
+    private final DistributionSummary succeededAttempts;
+    private final DistributionSummary failedAttempts;
 
     /**
      * Creates a new QuartzExecutionJob with the specified task execution service.
      *
      * @param taskService The Spring Cloud Data Flow task execution service
+     * @param launchDispatcher The dispatcher executing launches asynchronously, if enabled
+     * @param rateLimiter The cluster-wide launch admission control, if enabled
+     * @param runningExecutions The view of running executions enforcing concurrency policies, if available
+     * @param misfireRecovery The cluster-wide budget of misfire recovery fires, if available
+     * @param launchWatchdog The timeout of launch calls, if enabled
+     * @param meterRegistry The registry for launch metrics, the global registry if none is available
      */
-    public QuartzExecutionJob(TaskExecutionService taskService) {
+    public QuartzExecutionJob(TaskExecutionService taskService, ObjectProvider<TaskLaunchDispatcher> launchDispatcher,
+                              ObjectProvider<LaunchRateLimiter> rateLimiter,
+                              ObjectProvider<RunningTaskExecutions> runningExecutions,
+                              ObjectProvider<MisfireRecovery> misfireRecovery,
+                              ObjectProvider<LaunchWatchdog> launchWatchdog,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
         this.taskService = taskService;
-        this.objectMapper = new ObjectMapper();
+        this.launchDispatcher = launchDispatcher.getIfAvailable();
+        this.rateLimiter = rateLimiter.getIfAvailable();
+        this.runningExecutions = runningExecutions.getIfAvailable();
+        this.misfireRecovery = misfireRecovery.getIfAvailable();
+        this.launchWatchdog = launchWatchdog.getIfAvailable();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.retries = Counter.builder("quartz.launch.retries").register(registry);
+        this.failures = Counter.builder("quartz.launch.failures").register(registry);
+        this.succeededAttempts = attemptsSummary("success", registry);
+        this.failedAttempts = attemptsSummary("failure", registry);
     }
 
     /**
@@ -76,46 +169,330 @@ public class QuartzExecutionJob extends QuartzJobBean {
      *
      * <p>The execution process involves:
      * <ol>
-     *   <li>Extracting task information from the job data</li>
-     *   <li>Converting deployment properties and arguments</li>
-     *   <li>Launching the task through TaskExecutionService</li>
+     *   <li>Looking up the decoded task information of the job, decoding it on first use</li>
+     *   <li>Launching the task through TaskExecutionService, on a launch thread if a
+     *       {@link TaskLaunchDispatcher} is available</li>
      *   <li>Logging the execution results</li>
      * </ol>
      *
+     * <p>A cron fire that follows missed fires is a recovery fire. With {@link MisfirePolicy#CATCH_UP},
+     * it also schedules one-shot fires for the missed fires, up to the catch-up limit.
+     * Recovery fires over the recovery budget are retried after a short delay.
+     *
+     * <p>If the schedule has a jitter window, a regular cron fire only schedules a one-shot fire at the
+     * schedule's offset within the window, which then launches the task.
+     * If the launch budget is exhausted, or the launch queue is full and the dispatcher defers
+     * the launch, the job is fired again once by a one-shot trigger after a delay.
+     * Failed launches are retried the same way while the schedule's retry policy allows.
+     *
      * @param context The job execution context containing job data and runtime information
      * @throws JobExecutionException if task execution fails
      */
     @Override
-    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+    public void execute(JobExecutionContext context) throws JobExecutionException {
         String scheduleName = context.getJobDetail().getKey().getName();
         
+        LaunchPayload payload;
         try {
-            // Parse task execution information from job data
-            JsonNode jsonNode = objectMapper.readTree(
-                context.getMergedJobDataMap().getString("properties"));
-            
-            String taskName = jsonNode.path("definition").path("name").asText();
-            
-            // Convert deployment properties with type safety
-            Map<String, String> properties = jsonNode.path("deploymentProperties").isEmpty()
-                ? new HashMap<>()
-                : objectMapper.convertValue(jsonNode.path("deploymentProperties"), 
-                    new TypeReference<Map<String, String>>() {});
-            
-            // Convert command-line arguments with type safety
-            List<String> arguments = jsonNode.path("commandlineArguments").isEmpty()
-                ? new ArrayList<>()
-                : objectMapper.convertValue(jsonNode.path("commandlineArguments"), 
-                    new TypeReference<List<String>>() {});
-            
-            // Launch the task through Spring Cloud Data Flow
-            LaunchResponse response = taskService.executeTask(taskName, properties, arguments);
-            logger.info("Scheduled task launched - name: {}, schedule: {}, executionId: {}", 
-                taskName, scheduleName, response.getExecutionId());
-            
+            payload = payloadCache.get(context.getJobDetail().getKey(), context.getMergedJobDataMap());
+        } catch (Exception e) {
+            logger.error("Failed to read scheduled task: {} - {}", scheduleName, e.getMessage());
+            throw new JobExecutionException(e);
+        }
+
+        boolean recoveryFire = context.getMergedJobDataMap().containsKey(RECOVERY_FIRE_KEY);
+        if (!recoveryFire && context.getTrigger() instanceof CronTrigger) {
+            recoveryFire = recoverMissedFires(context);
+        }
+        if (recoveryFire && misfireRecovery != null && !misfireRecovery.tryAdmit(scheduleName)) {
+            fireOnceAfter(context, misfireRecovery.nextDeferDelayMillis(), "recovery", recoveryData());
+            return;
+        }
+
+        // One-shot fires have already been shifted, recovery fires are not shifted
+        if (!recoveryFire && payload.getJitterMillis() > 0 && context.getTrigger() instanceof CronTrigger) {
+            long offset = QuartzScheduler.jitterOffsetMillis(scheduleName, payload.getJitterMillis());
+            long delay = context.getScheduledFireTime().getTime() + offset - System.currentTimeMillis();
+            if (delay > 0) {
+                logger.debug("Delaying launch of schedule {} by its jitter offset of {}ms", scheduleName, offset);
+                fireOnceAfter(context, delay, "jitter");
+                return;
+            }
+        }
+
+        // Throttled and deferred retries keep their attempt
+        String attemptValue = context.getMergedJobDataMap().getString(ATTEMPT_KEY);
+        int attempt = attemptValue != null ? Integer.parseInt(attemptValue) : 1;
+
+        LaunchRateLimiter.Permit permit = null;
+        if (rateLimiter != null) {
+            permit = rateLimiter.tryAcquire(scheduleName);
+            if (permit == null) {
+                fireOnceAfter(context, rateLimiter.nextDeferDelayMillis(), "throttled", attemptData(attempt));
+                return;
+            }
+        }
+
+        if (launchDispatcher == null) {
+            try {
+                launchOrRetry(context, scheduleName, payload, attempt);
+            } finally {
+                release(permit);
+            }
+            return;
+        }
+
+        LaunchRateLimiter.Permit launchPermit = permit;
+        DispatchOutcome outcome;
+        try {
+            outcome = launchDispatcher.dispatch(scheduleName, context.getTrigger().getPriority(), () -> {
+                try {
+                    launchOrRetry(context, scheduleName, payload, attempt);
+                } catch (JobExecutionException e) {
+                    // Logged by launchOrRetry, there is no caller to report the failure to
+                } finally {
+                    release(launchPermit);
+                }
+            });
+        } catch (RuntimeException e) {
+            release(permit);
+            throw e;
+        }
+        if (outcome != DispatchOutcome.ACCEPTED) {
+            release(permit);
+        }
+        if (outcome == DispatchOutcome.DEFERRED) {
+            fireOnceAfter(context, launchDispatcher.getDeferDelay().toMillis(), "deferred", attemptData(attempt));
+        }
+    }
+
+    /**
+     * Cancels the launch calls of a fire in progress, so that its thread returns without waiting for
+     * the launch timeout. Cancelled launches are treated as failed launches and are not retried.
+     * Launch calls of other fires, including other fires of the same schedule, keep running.
+     *
+     * @param fireInstanceId The fire instance id of the fire to interrupt
+     * @throws UnableToInterruptJobException if launch calls are not bounded by a timeout
+     */
+    @Override
+    public void interrupt(String fireInstanceId) throws UnableToInterruptJobException {
+        if (launchWatchdog == null) {
+            throw new UnableToInterruptJobException("Launch timeouts are disabled, launches cannot be interrupted");
+        }
+        int cancelled = launchWatchdog.cancel(fireInstanceId);
+        logger.info("Interrupted {} launches of fire {}", cancelled, fireInstanceId);
+    }
+
+    /**
+     * Detects missed fires before a cron fire and, with {@link MisfirePolicy#CATCH_UP},
+     * schedules one-shot fires launching them.
+     * With {@link MisfirePolicy#SKIP_TO_NEXT}, Quartz moves the trigger to the next regular fire time,
+     * so the gap before that fire is skipped on purpose and the fire is a regular one.
+     *
+     * @param context The context of the cron fire
+     * @return true if fires were missed, i.e. this is a recovery fire
+     * @throws JobExecutionException if the catch-up fires cannot be stored
+     */
+    private static boolean recoverMissedFires(JobExecutionContext context) throws JobExecutionException {
+        JobDataMap triggerData = context.getTrigger().getJobDataMap();
+        String policyValue = triggerData.getString(QuartzScheduler.MISFIRE_POLICY_KEY);
+        MisfirePolicy policy = policyValue != null ? MisfirePolicy.valueOf(policyValue) : MisfirePolicy.FIRE_ONCE_NOW;
+        if (policy == MisfirePolicy.SKIP_TO_NEXT) return false;
+
+        String limitValue = triggerData.getString(QuartzScheduler.CATCH_UP_LIMIT_KEY);
+        int catchUpLimit = policy == MisfirePolicy.CATCH_UP && limitValue != null ? Integer.parseInt(limitValue) : 1;
+
+        int missed = countMissedFires(context, catchUpLimit);
+        if (missed == 0) return false;
+
+        String scheduleName = context.getJobDetail().getKey().getName();
+        logger.info("Schedule {} missed fires since {}, recovering with policy {}",
+            scheduleName, context.getPreviousFireTime(), policy);
+        // This fire launches the first missed fire
+        for (int i = 1; i < missed; i++) {
+            fireOnceAfter(context, i * CATCH_UP_SPACING_MILLIS, "catch-up", recoveryData());
+        }
+        return true;
+    }
+
+    /**
+     * Counts the cron fire times between the previous fire and the scheduled time of this fire.
+     * Quartz moves the scheduled time of a misfired trigger to the recovery time, so the missed
+     * fire times lie in between; for a regular fire there are none.
+     *
+     * @param context The context of the cron fire
+     * @param limit The maximum number of missed fires to count
+     * @return The number of missed fires, at most the limit
+     */
+    static int countMissedFires(JobExecutionContext context, int limit) {
+        Date previousFireTime = context.getPreviousFireTime();
+        Date scheduledFireTime = context.getScheduledFireTime();
+        if (previousFireTime == null || scheduledFireTime == null) return 0;
+
+        int missed = 0;
+        Date fireTime = context.getTrigger().getFireTimeAfter(previousFireTime);
+        while (fireTime != null && fireTime.before(scheduledFireTime) && missed < limit) {
+            missed++;
+            fireTime = context.getTrigger().getFireTimeAfter(fireTime);
+        }
+        return missed;
+    }
+
+    private static JobDataMap recoveryData() {
+        return new JobDataMap(Map.of(RECOVERY_FIRE_KEY, "true"));
+    }
+
+    /**
+     * Launches the task. If the launch fails and the schedule's retry policy allows another
+     * attempt, a one-shot fire retries it after the policy's backoff.
+     * A launch call that timed out or was cancelled may still have launched the task, so it is
+     * not retried, which could launch the task twice.
+     *
+     * @param context The context of the current fire
+     * @param scheduleName The name of the fired schedule
+     * @param payload The decoded payload of the schedule
+     * @param attempt The number of this launch attempt, starting at 1
+     * @throws JobExecutionException if the launch failed and is not retried
+     */
+    private void launchOrRetry(JobExecutionContext context, String scheduleName, LaunchPayload payload, int attempt)
+            throws JobExecutionException {
+        try {
+            launch(context.getFireInstanceId(), scheduleName, payload);
+            succeededAttempts.record(attempt);
         } catch (Exception e) {
             logger.error("Failed to launch scheduled task: {} - {}", scheduleName, e.getMessage());
+            RetryPolicy retryPolicy = payload.getRetryPolicy();
+            boolean unknownOutcome = e instanceof TimeoutException || e instanceof CancellationException;
+            if (unknownOutcome && retryPolicy.canRetry(attempt)) {
+                logger.warn("Not retrying launch of schedule {}, the abandoned launch may have started the task",
+                    scheduleName);
+            } else if (retryPolicy.canRetry(attempt)) {
+                long delay = retryPolicy.nextBackoffMillis(attempt);
+                try {
+                    fireOnceAfter(context, delay, "retry", attemptData(attempt + 1));
+                    retries.increment();
+                    logger.warn("Retrying launch of schedule {} in {}ms, attempt {} of {}",
+                        scheduleName, delay, attempt + 1, retryPolicy.getMaxAttempts());
+                    return;
+                } catch (JobExecutionException retryFailure) {
+                    logger.error("Failed to schedule retry of schedule {} - {}", scheduleName, retryFailure.getMessage());
+                }
+            }
+            failures.increment();
+            failedAttempts.record(attempt);
+            if (attempt > 1) {
+                logger.error("Giving up launch of schedule {} after {} attempts", scheduleName, attempt);
+            }
+            throw new JobExecutionException(e);
+        }
+    }
+
+    private static JobDataMap attemptData(int attempt) {
+        return attempt > 1 ? new JobDataMap(Map.of(ATTEMPT_KEY, String.valueOf(attempt))) : new JobDataMap();
+    }
+
+    private static DistributionSummary attemptsSummary(String result, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("quartz.launch.attempts")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static void release(LaunchRateLimiter.Permit permit) {
+        if (permit != null) permit.release();
+    }
+
+    /**
+     * Launches the task through Spring Cloud Data Flow, applying the schedule's concurrency policy first.
+     * The policy only considers executions launched by this schedule; executions launched by schedules
+     * with the {@link ConcurrencyPolicy#ALLOW} policy are not recorded.
+     * The cached payload is copied, so the task execution service cannot modify it.
+     * The launch call is bounded by the launch timeout if a {@link LaunchWatchdog} is available.
+     */
+    private void launch(String fireInstanceId, String scheduleName, LaunchPayload payload) throws Exception {
+        String taskName = payload.getTaskName();
+        boolean tracked = payload.getConcurrencyPolicy() != ConcurrencyPolicy.ALLOW && runningExecutions != null;
+        if (tracked) {
+            Map<Long, String> running = runningExecutions.find(scheduleName, taskName);
+            if (!running.isEmpty()) {
+                if (payload.getConcurrencyPolicy() == ConcurrencyPolicy.FORBID) {
+                    logger.info("Skipping launch of schedule {}, its execution of task {} is still running - executionIds: {}",
+                        scheduleName, taskName, running.keySet());
+                    return;
+                }
+                logger.info("Stopping running executions of schedule {} before launching it again - executionIds: {}",
+                    scheduleName, running.keySet());
+                stop(running);
+                runningExecutions.stopped(scheduleName, running.keySet());
+            }
+        }
+
+        Callable<LaunchResponse> launchCall = () -> taskService.executeTask(taskName,
+            new HashMap<>(payload.getProperties()), new ArrayList<>(payload.getArguments()));
+        LaunchResponse response = launchWatchdog != null
+            ? launchWatchdog.call(fireInstanceId, scheduleName, launchCall)
+            : launchCall.call();
+        if (tracked) {
+            runningExecutions.launched(scheduleName, response.getExecutionId(), response.getSchemaTarget());
+        }
+        logger.info("Scheduled task launched - name: {}, schedule: {}, executionId: {}", 
+            taskName, scheduleName, response.getExecutionId());
+    }
+
+    /**
+     * Stops running executions, grouped by schema target as the task execution service stops
+     * executions of one schema target per call.
+     *
+     * @param executions The schema target of each execution by execution id
+     */
+    private void stop(Map<Long, String> executions) {
+        Map<String, Set<Long>> byTarget = new HashMap<>();
+        executions.forEach((executionId, schemaTarget) ->
+            byTarget.computeIfAbsent(schemaTarget, target -> new LinkedHashSet<>()).add(executionId));
+        byTarget.forEach((schemaTarget, executionIds) -> taskService.stopTaskExecution(executionIds, schemaTarget));
+    }
+
+    /**
+     * Fires the job of the given context once more after a delay, through a one-shot trigger
+     * in the job's group. The trigger is stored in the JobStore, so the fire survives restarts
+     * and runs on whichever cluster node acquires it. The one-shot trigger keeps the priority
+     * of the current trigger.
+     *
+     * @param context The context of the current fire
+     * @param delayMillis The delay before the additional fire
+     * @param reason Prefix of the trigger name, describing why the job fires again
+     * @throws JobExecutionException if the trigger cannot be stored
+     */
+    private static void fireOnceAfter(JobExecutionContext context, long delayMillis, String reason)
+            throws JobExecutionException {
+        fireOnceAfter(context, delayMillis, reason, new JobDataMap());
+    }
+
+    /**
+     * Fires the job of the given context once more after a delay, passing data to the fire
+     * through the one-shot trigger.
+     *
+     * @param context The context of the current fire
+     * @param delayMillis The delay before the additional fire
+     * @param reason Prefix of the trigger name, describing why the job fires again
+     * @param triggerData The data of the one-shot trigger
+     * @throws JobExecutionException if the trigger cannot be stored
+     */
+    private static void fireOnceAfter(JobExecutionContext context, long delayMillis, String reason,
+                                      JobDataMap triggerData) throws JobExecutionException {
+        JobKey jobKey = context.getJobDetail().getKey();
+        Trigger trigger = TriggerBuilder.newTrigger()
+            .withIdentity(reason + "-" + UUID.randomUUID(), jobKey.getGroup())
+            .forJob(jobKey)
+            .startAt(new Date(System.currentTimeMillis() + delayMillis))
+            .withPriority(context.getTrigger().getPriority())
+            .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+            .usingJobData(triggerData)
+            .build();
+        try {
+            context.getScheduler().scheduleJob(trigger);
+        } catch (SchedulerException e) {
+            logger.error("Failed to fire schedule {} again: {}", jobKey.getName(), e.getMessage());
             throw new JobExecutionException(e);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,277 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import org.quartz.JobDataMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Read-only JDBC access to the schedules stored in the Quartz tables.
+ * This repository loads job details together with their cron triggers in a single joined query,
+ * instead of going through the JobStore one job at a time. The join is restricted to the schedule's
+ * own cron trigger, which is named after the job in the job's group, so each schedule is one row;
+ * one-shot triggers for retries, jitter or recovery are not part of it.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>One round trip for the whole schedule catalog</li>
+ *   <li>Works with the job data layout of both the PostgreSQL and the standard JDBC delegate</li>
+ *   <li>Supports job data stored as properties ({@code useProperties=true}) or as a serialized map</li>
+ * </ul>
+ *
+ * @see QuartzScheduler
+ * @see ScheduleRecord
+ */
+public class QuartzScheduleRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuartzScheduleRepository.class);
+
+    // Name of the job data entry holding the schedule payload
+    private static final String PROPERTIES_KEY = "properties";
+
+    // The schedule's cron trigger has the job's name and group, each job joins at most one trigger row
+    private static final String SELECT_SCHEDULES =
+        "SELECT jd.JOB_NAME, jd.JOB_GROUP, jd.JOB_DATA, ct.CRON_EXPRESSION, ct.TIME_ZONE_ID " +
+        "FROM {0}JOB_DETAILS jd " +
+        "JOIN {0}CRON_TRIGGERS ct ON ct.SCHED_NAME = jd.SCHED_NAME " +
+        "AND ct.TRIGGER_NAME = jd.JOB_NAME AND ct.TRIGGER_GROUP = jd.JOB_GROUP " +
+        "WHERE jd.SCHED_NAME = ? ";
+
+    private static final String ORDER_BY_NAME = "ORDER BY jd.JOB_NAME, jd.JOB_GROUP";
+
+    private static final String SELECT_ALL_SCHEDULES = SELECT_SCHEDULES + ORDER_BY_NAME;
+
+    private static final String SELECT_SCHEDULES_BY_GROUP = SELECT_SCHEDULES +
+        "AND jd.JOB_GROUP = ? " + ORDER_BY_NAME;
+
+    // The keyset matches the sort order, so no row is skipped or repeated between pages
+    private static final String SELECT_SCHEDULE_PAGE = SELECT_SCHEDULES +
+        "AND (jd.JOB_NAME, jd.JOB_GROUP) > (?, ?) " + ORDER_BY_NAME + " LIMIT ?";
+
+    private static final String SELECT_SCHEDULE_PAGE_BY_GROUP = SELECT_SCHEDULES +
+        "AND jd.JOB_GROUP = ? AND jd.JOB_NAME > ? " + ORDER_BY_NAME + " LIMIT ?";
+
+    private static final String SELECT_JOB_GROUPS =
+        "SELECT JOB_NAME, JOB_GROUP FROM {0}JOB_DETAILS WHERE SCHED_NAME = ? AND JOB_NAME IN ({1})";
+
+    // Maximum number of bind parameters per IN clause
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    // Served by the (SCHED_NAME, JOB_NAME, JOB_GROUP) primary key
+    private static final String SELECT_JOB_GROUP =
+        "SELECT JOB_GROUP FROM {0}JOB_DETAILS WHERE SCHED_NAME = ? AND JOB_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tablePrefix;
+    private final String schedulerName;
+    // Null if the dialect is detected from the connection when streaming
+    private final DatabaseDialect dialect;
+
+    /**
+     * Creates a new QuartzScheduleRepository that detects the database when streaming.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param tablePrefix The Quartz table prefix, e.g. {@code QRTZ_}
+     * @param schedulerName The Quartz scheduler name used as SCHED_NAME
+     */
+    public QuartzScheduleRepository(DataSource dataSource, String tablePrefix, String schedulerName) {
+        this(dataSource, tablePrefix, schedulerName, null);
+    }
+
+    /**
+     * Creates a new QuartzScheduleRepository.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param tablePrefix The Quartz table prefix, e.g. {@code QRTZ_}
+     * @param schedulerName The Quartz scheduler name used as SCHED_NAME
+     * @param dialect The dialect of the database, or null to detect it when streaming
+     */
+    public QuartzScheduleRepository(DataSource dataSource, String tablePrefix, String schedulerName,
+                                    DatabaseDialect dialect) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tablePrefix = tablePrefix;
+        this.schedulerName = schedulerName;
+        this.dialect = dialect;
+    }
+
+    /**
+     * Loads all schedules with a cron trigger, ordered by schedule name.
+     *
+     * @return List of schedule records
+     */
+    public List<ScheduleRecord> findAll() {
+        return query(sql(SELECT_ALL_SCHEDULES), schedulerName);
+    }
+
+    /**
+     * Loads the schedules of a single job group, ordered by schedule name.
+     *
+     * @param groupName The job group to load
+     * @return List of schedule records in the group
+     */
+    public List<ScheduleRecord> findByGroup(String groupName) {
+        return query(sql(SELECT_SCHEDULES_BY_GROUP), schedulerName, groupName);
+    }
+
+    /**
+     * Loads one page of schedules ordered by schedule name and group, using the schedule name
+     * and group of the last record of the previous page as the key. Each page is a single indexed
+     * range query, independent of how many pages precede it.
+     *
+     * @param groupName The job group to load, or null for all groups
+     * @param afterScheduleName The last schedule name of the previous page, or null for the first page
+     * @param afterGroupName The group of the last schedule of the previous page; ignored if groupName is set
+     * @param limit The maximum number of schedules to load
+     * @return List of at most limit schedule records
+     */
+    public List<ScheduleRecord> findPage(String groupName, String afterScheduleName, String afterGroupName, int limit) {
+        String after = afterScheduleName != null ? afterScheduleName : "";
+        if (groupName != null) {
+            return query(sql(SELECT_SCHEDULE_PAGE_BY_GROUP), schedulerName, groupName, after, limit);
+        }
+        return query(sql(SELECT_SCHEDULE_PAGE), schedulerName, after,
+            afterGroupName != null ? afterGroupName : "", limit);
+    }
+
+    /**
+     * Streams schedules ordered by schedule name to the given consumer.
+     * Rows are read through a server-side cursor, so memory use does not depend on the
+     * number of schedules. The connection is held until the last record has been consumed.
+     *
+     * @param groupName The job group to stream, or null for all groups
+     * @param consumer Receives each schedule record
+     */
+    public void stream(String groupName, Consumer<ScheduleRecord> consumer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            DatabaseDialect streamDialect = dialect != null ? dialect : DatabaseDialect.fromMetaData(
+                connection.getMetaData().getDatabaseProductName(), connection.getMetaData().getURL());
+            // Unknown databases stream through a cursor inside a transaction, the JDBC default
+            if (streamDialect == null) streamDialect = DatabaseDialect.POSTGRESQL;
+            boolean beginTransaction = streamDialect.isCursorTransactional() && connection.getAutoCommit();
+
+            if (beginTransaction) connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    sql(groupName != null ? SELECT_SCHEDULES_BY_GROUP : SELECT_ALL_SCHEDULES),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(streamDialect.getStreamFetchSize());
+                statement.setString(1, schedulerName);
+                if (groupName != null) statement.setString(2, groupName);
+
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(mapRecord(rs));
+                    }
+                }
+            } finally {
+                if (beginTransaction) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Finds the job group of a schedule.
+     *
+     * @param scheduleName The schedule (job) name
+     * @return The job group or null if no such job exists
+     */
+    public String findJobGroup(String scheduleName) {
+        List<String> groups = jdbcTemplate.queryForList(sql(SELECT_JOB_GROUP), String.class,
+            schedulerName, scheduleName);
+        return groups.isEmpty() ? null : groups.get(0);
+    }
+
+    /**
+     * Finds the job groups of many schedules with batched primary-key lookups.
+     *
+     * @param scheduleNames The schedule (job) names
+     * @return The job group of each existing schedule by schedule name
+     */
+    public Map<String, String> findJobGroups(Collection<String> scheduleNames) {
+        Map<String, String> groups = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>(scheduleNames);
+        for (int i = 0; i < names.size(); i += IN_CLAUSE_SIZE) {
+            List<String> batch = names.subList(i, Math.min(i + IN_CLAUSE_SIZE, names.size()));
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+            List<Object> args = new ArrayList<>();
+            args.add(schedulerName);
+            args.addAll(batch);
+            jdbcTemplate.query(sql(SELECT_JOB_GROUPS).replace("{1}", placeholders),
+                (RowCallbackHandler) rs -> groups.putIfAbsent(rs.getString("JOB_NAME"), rs.getString("JOB_GROUP")),
+                args.toArray());
+        }
+        return groups;
+    }
+
+    private List<ScheduleRecord> query(String sql, Object... args) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> mapRecord(rs), args);
+    }
+
+    /**
+     * Replaces the table prefix placeholder in the given query.
+     */
+    private String sql(String query) {
+        return query.replace("{0}", tablePrefix);
+    }
+
+    private ScheduleRecord mapRecord(ResultSet rs) throws SQLException {
+        return new ScheduleRecord(
+            rs.getString("JOB_NAME"),
+            rs.getString("JOB_GROUP"),
+            readPayload(rs.getString("JOB_NAME"), rs.getBytes("JOB_DATA")),
+            rs.getString("CRON_EXPRESSION"),
+            rs.getString("TIME_ZONE_ID"));
+    }
+
+    /**
+     * Extracts the schedule payload from the JOB_DATA column.
+     * With {@code useProperties=true} the delegates store a {@link Properties} text blob,
+     * otherwise a Java-serialized {@link JobDataMap}.
+     *
+     * @param jobName The job name, used for logging
+     * @param jobData The raw column value
+     * @return The payload JSON or null if none is stored or it cannot be read
+     */
+    private String readPayload(String jobName, byte[] jobData) {
+        if (jobData == null || jobData.length == 0) return null;
+
+        try {
+            // Java serialization stream magic 0xACED
+            if (jobData.length > 1 && jobData[0] == (byte) 0xAC && jobData[1] == (byte) 0xED) {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(jobData))) {
+                    Object value = ((Map<?, ?>) in.readObject()).get(PROPERTIES_KEY);
+                    return value != null ? value.toString() : null;
+                }
+            }
+
+            Properties properties = new Properties();
+            properties.load(new ByteArrayInputStream(jobData));
+            return properties.getProperty(PROPERTIES_KEY);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Failed to read job data for job: {}", jobName, e);
+            return null;
+        }
+    }
+}
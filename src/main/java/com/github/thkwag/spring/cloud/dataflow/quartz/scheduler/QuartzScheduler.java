@@ -1,23 +1,49 @@
 package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
 
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.ConcurrencyPolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.RetryPolicy;
 import org.quartz.*;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.listeners.SchedulerListenerSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.deployer.spi.scheduler.Scheduler;
+import org.springframework.dao.DataAccessException;
 import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
 import org.springframework.cloud.deployer.spi.scheduler.ScheduleRequest;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
@@ -40,6 +66,9 @@ import com.fasterxml.jackson.databind.JsonNode;
  *   <li>Command-line arguments</li>
  * </ul>
  *
+ * <p>Each schedule is stored as a Quartz job and cron trigger named after the schedule,
+ * in a group derived from the task definition name (see {@link #groupName(String)}).
+ *
  * @see org.springframework.cloud.deployer.spi.scheduler.Scheduler
  * @see org.quartz.Scheduler
  * @see QuartzExecutionJob
@@ -47,24 +76,158 @@ import com.fasterxml.jackson.databind.JsonNode;
 public class QuartzScheduler implements Scheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(QuartzScheduler.class);
+
+    // Smallest JOB_GROUP/TRIGGER_GROUP column size across the supported Quartz schemas
+    private static final int MAX_GROUP_NAME_LENGTH = 190;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Job data key of the SHA-256 hash over the normalized schedule payload:
+     * task definition, deployment properties and arguments. The cron expression is
+     * compared against the stored trigger instead, so it can change without touching the job.
+     */
+    public static final String PAYLOAD_HASH_KEY = "payloadHash";
+
+    /**
+     * Trigger data key of the schedule's {@link MisfirePolicy}.
+     */
+    public static final String MISFIRE_POLICY_KEY = "misfirePolicy";
+
+    /**
+     * Trigger data key of the maximum number of missed fires launched by {@link MisfirePolicy#CATCH_UP}.
+     */
+    public static final String CATCH_UP_LIMIT_KEY = "catchUpLimit";
+
+    private static final int DEFAULT_CATCH_UP_LIMIT = 3;
+
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_RETRY_MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final double DEFAULT_RETRY_MULTIPLIER = 2;
+
+    // Accepted prefixes of scheduler properties, in order of precedence
+    private static final String[] SCHEDULER_PROPERTY_PREFIXES =
+        {"spring.cloud.scheduler.", "scheduler.", "spring.cloud.deployer."};
     private final org.quartz.Scheduler scheduler;
+    private final QuartzScheduleRepository scheduleRepository;
     private final ObjectMapper objectMapper;
+    private ScheduleInfoCache scheduleCache;
+    private TransactionTemplate transactionTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private MisfirePolicy defaultMisfirePolicy = MisfirePolicy.FIRE_ONCE_NOW;
+    private int defaultCatchUpLimit = DEFAULT_CATCH_UP_LIMIT;
+    private int defaultPriority = Trigger.DEFAULT_PRIORITY;
 
     /**
      * Creates a new QuartzScheduler with the specified factory bean.
+     * Schedules are listed through the Quartz JobStore, one job at a time.
      *
      * @param schedulerFactoryBean The factory bean that creates the Quartz Scheduler
      */
     public QuartzScheduler(SchedulerFactoryBean schedulerFactoryBean) {
+        this(schedulerFactoryBean, null);
+    }
+
+    /**
+     * Creates a new QuartzScheduler that lists schedules through the given repository.
+     *
+     * @param schedulerFactoryBean The factory bean that creates the Quartz Scheduler
+     * @param scheduleRepository The repository for bulk schedule reads, or null to use the JobStore
+     */
+    public QuartzScheduler(SchedulerFactoryBean schedulerFactoryBean, QuartzScheduleRepository scheduleRepository) {
         this.scheduler = schedulerFactoryBean.getObject();
+        this.scheduleRepository = scheduleRepository;
         this.objectMapper = new ObjectMapper()
             .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 	}
 
+    /**
+     * Serves schedule listings from the given cache.
+     * The cache is kept up to date with local changes through a Quartz scheduler listener.
+     *
+     * @param scheduleCache The cache to use
+     * @throws IllegalStateException if the listener cannot be registered
+     */
+    public void setScheduleCache(ScheduleInfoCache scheduleCache) {
+        try {
+            scheduler.getListenerManager().addSchedulerListener(new ScheduleCacheListener(scheduleCache));
+            this.scheduleCache = scheduleCache;
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Failed to register schedule cache listener", e);
+        }
+    }
+
+    /**
+     * Runs JobStore operations that must take effect together, such as deleting a schedule from its
+     * old group and storing it in its new one, in a transaction of the given transaction manager.
+     * The JobStore must join Spring-managed transactions of the same datasource. Without a transaction
+     * manager, these operations are committed one by one.
+     *
+     * @param transactionManager The transaction manager of the Quartz datasource, or null
+     */
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = transactionManager != null ? new TransactionTemplate(transactionManager) : null;
+    }
+
+    /**
+     * Sets the number of schedules written per JobStore transaction by the batch operations.
+     *
+     * @param batchSize The batch size, 500 by default
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the misfire policy of schedules that don't specify one. Defaults to {@link MisfirePolicy#FIRE_ONCE_NOW}.
+     * Existing triggers pick up a changed default when they are scheduled again.
+     *
+     * @param defaultMisfirePolicy The default misfire policy
+     */
+    public void setDefaultMisfirePolicy(MisfirePolicy defaultMisfirePolicy) {
+        this.defaultMisfirePolicy = defaultMisfirePolicy;
+    }
+
+    /**
+     * Sets the trigger priority of schedules that don't specify one. Defaults to {@link Trigger#DEFAULT_PRIORITY}.
+     * When more triggers are due than there are free worker threads, triggers with a higher
+     * priority fire first.
+     *
+     * @param defaultPriority The default trigger priority
+     */
+    public void setDefaultPriority(int defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    /**
+     * Sets the maximum number of missed fires launched by {@link MisfirePolicy#CATCH_UP}
+     * for schedules that don't specify one. Defaults to 3.
+     *
+     * @param defaultCatchUpLimit The default catch-up limit
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public void setDefaultCatchUpLimit(int defaultCatchUpLimit) {
+        if (defaultCatchUpLimit <= 0) {
+            throw new IllegalArgumentException("Catch-up limit must be positive: " + defaultCatchUpLimit);
+        }
+        this.defaultCatchUpLimit = defaultCatchUpLimit;
+    }
+
 	/**
 	 * Schedules a new task with the specified configuration.
-	 * If a schedule with the same name already exists, it will be replaced.
+	 * If a schedule with the same name already exists, it will be replaced atomically,
+	 * so there is no window in which the schedule has no trigger.
+	 *
+	 * <p>Requests identical to the stored schedule are no-ops. Requests that only change the
+	 * trigger (cron expression, priority or misfire settings) replace the trigger together with
+	 * the job data, which records the cron expression, so listings never show a stale expression.
+	 * Changes are detected through a hash of the schedule payload stored with the job
+	 * (see {@link #PAYLOAD_HASH_KEY}).
 	 *
 	 * @param scheduleRequest The request containing schedule configuration
 	 * @throws IllegalStateException if scheduling fails
@@ -74,77 +237,47 @@ public class QuartzScheduler implements Scheduler {
 	public void schedule(ScheduleRequest scheduleRequest) {
         try {
             String scheduleName = scheduleRequest.getScheduleName();
-            String taskDefinitionName = scheduleRequest.getDefinition().getName();
-            Map<String, String> properties = new HashMap<>(scheduleRequest.getDeploymentProperties());
-            
-            logger.info("Scheduling task - name: {}, definition: {}, properties: {}", 
-                scheduleName, taskDefinitionName, properties);
-            
-            // Check and remove existing job
-            JobKey jobKey = new JobKey(scheduleName);
-            if (scheduler.checkExists(jobKey)) {
-                logger.info("Found existing job with name: {}. Current triggers: {}", 
-                    scheduleName, scheduler.getTriggersOfJob(jobKey));
-                logger.info("Deleting existing job: {}", scheduleName);
-                scheduler.deleteJob(jobKey);
-            }
+            ScheduledJob scheduledJob = createScheduledJob(scheduleRequest);
+            JobKey jobKey = scheduledJob.jobDetail.getKey();
 
-            // List current jobs for debugging
-            logger.info("Current jobs before scheduling:");
-            for (JobKey existingJobKey : scheduler.getJobKeys(GroupMatcher.anyGroup())) {
-                logger.info("Job: {}, Triggers: {}", existingJobKey.getName(), 
-                    scheduler.getTriggersOfJob(existingJobKey));
-            }
-            
-            // Process cron expression from various possible properties
-            String cronExpression = properties.get("spring.cloud.scheduler.cron.expression");
-            if (cronExpression == null) {
-                cronExpression = properties.get("scheduler.cron.expression");
-            }
-            if (cronExpression == null) {
-                cronExpression = properties.get("spring.cloud.deployer.cron.expression");
-            }
-            
-            if (cronExpression == null || cronExpression.trim().isEmpty()) {
-                logger.error("Cron expression not found in properties: {}", properties);
-                throw new IllegalArgumentException(
-                    "Cron expression must be specified in deployment properties using one of:\n" +
-                    "- spring.cloud.scheduler.cron.expression\n" +
-                    "- scheduler.cron.expression");
+            JobKey currentJobKey = findJobKey(scheduleName);
+            if (jobKey.equals(currentJobKey)) {
+                ScheduleChange change = detectChange(scheduledJob);
+                if (change == ScheduleChange.NONE) {
+                    logger.info("Schedule {} is unchanged, keeping existing job and trigger", scheduleName);
+                    return;
+                }
+                if (change == ScheduleChange.TRIGGER) {
+                    // The stored payload carries the cron expression, so the job is rewritten with the
+                    // trigger in the same JobStore transaction rather than rescheduling the trigger alone
+                    scheduler.scheduleJob(scheduledJob.jobDetail, Collections.singleton(scheduledJob.trigger), true);
+                    logger.info("Rescheduled task - name: {}, cron: {}", scheduleName,
+                        scheduledJob.trigger.getCronExpression());
+                    recordChange();
+                    return;
+                }
+            } else if (currentJobKey != null) {
+                // A schedule moved to another task definition lives in another group; when the JobStore
+                // joins managed transactions, the old job is removed in the same transaction, so the
+                // schedule exists in exactly one group throughout
+                logger.info("Moving schedule {} from group {} to group {}", scheduleName, currentJobKey.getGroup(),
+                    jobKey.getGroup());
+                atomically(() -> {
+                    scheduler.deleteJob(currentJobKey);
+                    scheduler.scheduleJob(scheduledJob.jobDetail, Collections.singleton(scheduledJob.trigger), true);
+                });
+                logger.info("Successfully scheduled task - name: {}, cron: {}", scheduleName,
+                    scheduledJob.trigger.getCronExpression());
+                recordChange();
+                return;
             }
 
-            // Clean up cron expression properties
-            properties.remove("spring.cloud.scheduler.cron.expression");
-            properties.remove("spring.cloud.deployer.cron.expression");
-            properties.remove("scheduler.cron.expression");
-
-            logger.info("Using cron expression: {}", cronExpression);
-
-            // Create job data with required information
-            Map<String, Object> jobData = new HashMap<>();
-            Map<String, Object> schedulerData = new HashMap<>();
-            schedulerData.put("definition", Map.of("name", taskDefinitionName));
-            schedulerData.put("deploymentProperties", properties);
-            schedulerData.put("commandlineArguments", scheduleRequest.getCommandlineArguments());
-            schedulerData.put("cronExpression", cronExpression);
-            jobData.put("properties", objectMapper.writeValueAsString(schedulerData));
-
-            // Create and configure job
-            JobDetail jobDetail = JobBuilder.newJob(QuartzExecutionJob.class)
-                .withIdentity(scheduleName)
-                .usingJobData(new JobDataMap(jobData))
-                .build();
-
-            // Create and configure trigger
-            CronTrigger trigger = TriggerBuilder.newTrigger()
-                .withIdentity(scheduleName)
-                .withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
-                .build();
-
-            // Schedule the job
-            scheduler.scheduleJob(jobDetail, trigger);
+            // Create or replace the job and its trigger in a single JobStore transaction
+            scheduler.scheduleJob(scheduledJob.jobDetail, Collections.singleton(scheduledJob.trigger), true);
             
-            logger.info("Successfully scheduled task - name: {}, cron: {}", scheduleName, cronExpression);
+            logger.info("Successfully scheduled task - name: {}, cron: {}", scheduleName,
+                scheduledJob.trigger.getCronExpression());
+            recordChange();
             
         } catch (Exception e) {
             logger.error("Failed to schedule task", e);
@@ -152,6 +285,303 @@ public class QuartzScheduler implements Scheduler {
 		}
 	}
 
+	/**
+	 * Schedules many tasks at once.
+	 * Jobs and triggers are written with one JobStore transaction per batch of
+	 * {@link #setBatchSize(int) batch size} schedules. If a batch fails, its schedules are retried
+	 * one by one so that each failure can be attributed to a single schedule.
+	 * Existing schedules with the same names are replaced; schedules moving to another task definition
+	 * are removed from their old group in the transaction storing them in the new one, if a transaction
+	 * manager is set (see {@link #setTransactionManager(PlatformTransactionManager)}).
+	 *
+	 * @param scheduleRequests The requests containing schedule configurations
+	 * @return The names of scheduled tasks and the failure of each schedule that could not be scheduled
+	 */
+	public BatchScheduleResult scheduleAll(Collection<ScheduleRequest> scheduleRequests) {
+        BatchScheduleResult result = new BatchScheduleResult();
+        Map<String, ScheduledJob> scheduledJobs = new LinkedHashMap<>();
+        for (ScheduleRequest scheduleRequest : scheduleRequests) {
+            try {
+                scheduledJobs.put(scheduleRequest.getScheduleName(), createScheduledJob(scheduleRequest));
+            } catch (Exception e) {
+                result.addFailure(scheduleRequest.getScheduleName(), e);
+            }
+        }
+
+        // Schedules that move to another task definition group, by schedule name
+        Map<String, JobKey> movedJobKeys = new HashMap<>();
+        try {
+            for (Map.Entry<String, JobKey> entry : findJobKeys(scheduledJobs.keySet()).entrySet()) {
+                if (!entry.getValue().equals(scheduledJobs.get(entry.getKey()).jobDetail.getKey())) {
+                    movedJobKeys.put(entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (Exception e) {
+            scheduledJobs.keySet().forEach(scheduleName -> result.addFailure(scheduleName, e));
+            return result;
+        }
+
+        for (List<ScheduledJob> batch : partition(new ArrayList<>(scheduledJobs.values()))) {
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs = new LinkedHashMap<>();
+            List<JobKey> batchMovedJobKeys = new ArrayList<>();
+            batch.forEach(scheduledJob -> {
+                triggersAndJobs.put(scheduledJob.jobDetail, Collections.singleton(scheduledJob.trigger));
+                JobKey movedJobKey = movedJobKeys.get(scheduledJob.jobDetail.getKey().getName());
+                if (movedJobKey != null) batchMovedJobKeys.add(movedJobKey);
+            });
+            try {
+                atomically(() -> {
+                    if (!batchMovedJobKeys.isEmpty()) scheduler.deleteJobs(batchMovedJobKeys);
+                    scheduler.scheduleJobs(triggersAndJobs, true);
+                });
+                batch.forEach(scheduledJob -> result.addSuccess(scheduledJob.jobDetail.getKey().getName()));
+            } catch (Exception batchFailure) {
+                logger.warn("Failed to schedule batch of {} tasks, scheduling them one by one", batch.size(), batchFailure);
+                for (ScheduledJob scheduledJob : batch) {
+                    String scheduleName = scheduledJob.jobDetail.getKey().getName();
+                    JobKey movedJobKey = movedJobKeys.get(scheduleName);
+                    try {
+                        atomically(() -> {
+                            if (movedJobKey != null) scheduler.deleteJob(movedJobKey);
+                            scheduler.scheduleJob(scheduledJob.jobDetail, Collections.singleton(scheduledJob.trigger), true);
+                        });
+                        result.addSuccess(scheduleName);
+                    } catch (Exception e) {
+                        result.addFailure(scheduleName, e);
+                    }
+                }
+            }
+        }
+
+        logger.info("Scheduled {} tasks, {} failed", result.getSucceeded().size(), result.getFailures().size());
+        if (!result.getSucceeded().isEmpty()) {
+            recordChange();
+        }
+        return result;
+	}
+
+	/**
+	 * Creates the job and trigger for a schedule request.
+	 *
+	 * @param scheduleRequest The request containing schedule configuration
+	 * @return The job and its cron trigger
+	 * @throws IllegalArgumentException if cron expression is missing or a scheduler property is invalid
+	 * @throws JsonProcessingException if the schedule payload cannot be serialized
+	 */
+	private ScheduledJob createScheduledJob(ScheduleRequest scheduleRequest) throws JsonProcessingException {
+        String scheduleName = scheduleRequest.getScheduleName();
+        String taskDefinitionName = scheduleRequest.getDefinition().getName();
+        Map<String, String> properties = new HashMap<>(scheduleRequest.getDeploymentProperties());
+
+        logger.info("Scheduling task - name: {}, definition: {}, properties: {}", 
+            scheduleName, taskDefinitionName, properties);
+
+        JobKey jobKey = new JobKey(scheduleName, groupName(taskDefinitionName));
+
+        // Process cron expression from various possible properties
+        String cronExpression = removeSchedulerProperty(properties, "cron.expression");
+        
+        if (cronExpression == null || cronExpression.trim().isEmpty()) {
+            logger.error("Cron expression not found in properties: {}", properties);
+            throw new IllegalArgumentException(
+                "Cron expression must be specified in deployment properties using one of:\n" +
+                "- spring.cloud.scheduler.cron.expression\n" +
+                "- scheduler.cron.expression");
+        }
+
+        logger.info("Using cron expression: {}", cronExpression);
+
+        long jitterMillis = parseJitter(removeSchedulerProperty(properties, "cron.jitter"));
+        ConcurrencyPolicy concurrencyPolicy = parseConcurrencyPolicy(
+            removeSchedulerProperty(properties, "concurrency-policy"));
+        RetryPolicy retryPolicy = parseRetryPolicy(properties);
+        String misfirePolicyValue = removeSchedulerProperty(properties, "misfire-policy");
+        MisfirePolicy misfirePolicy = misfirePolicyValue != null
+            ? MisfirePolicy.parse(misfirePolicyValue) : defaultMisfirePolicy;
+        String catchUpLimitValue = removeSchedulerProperty(properties, "misfire-catch-up-limit");
+        int catchUpLimit = catchUpLimitValue != null ? parseCatchUpLimit(catchUpLimitValue) : defaultCatchUpLimit;
+        String priorityValue = removeSchedulerProperty(properties, "priority");
+        int priority = priorityValue != null ? parsePriority(priorityValue) : defaultPriority;
+
+        // Create job data with required information
+        Map<String, Object> jobData = new HashMap<>();
+        Map<String, Object> schedulerData = new HashMap<>();
+        schedulerData.put("definition", Map.of("name", taskDefinitionName));
+        schedulerData.put("deploymentProperties", properties);
+        schedulerData.put("commandlineArguments", scheduleRequest.getCommandlineArguments());
+        if (jitterMillis > 0) {
+            schedulerData.put("jitterMillis", jitterMillis);
+        }
+        if (concurrencyPolicy != ConcurrencyPolicy.ALLOW) {
+            schedulerData.put("concurrencyPolicy", concurrencyPolicy.name());
+        }
+        if (retryPolicy.getMaxAttempts() > 1) {
+            schedulerData.put("retry", Map.of(
+                "maxAttempts", retryPolicy.getMaxAttempts(),
+                "backoffMillis", retryPolicy.getBackoffMillis(),
+                "maxBackoffMillis", retryPolicy.getMaxBackoffMillis(),
+                "multiplier", retryPolicy.getMultiplier()));
+        }
+        // Map entries are serialized in key order, so equal payloads hash equally
+        jobData.put(PAYLOAD_HASH_KEY, sha256(objectMapper.writeValueAsString(schedulerData)));
+        schedulerData.put("cronExpression", cronExpression);
+        jobData.put("properties", objectMapper.writeValueAsString(schedulerData));
+
+        // Create and configure job
+        JobDetail jobDetail = JobBuilder.newJob(QuartzExecutionJob.class)
+            .withIdentity(jobKey)
+            .usingJobData(new JobDataMap(jobData))
+            .build();
+
+        // Create and configure trigger; missed fires of CATCH_UP are launched by QuartzExecutionJob
+        CronScheduleBuilder cronSchedule = CronScheduleBuilder.cronSchedule(cronExpression);
+        cronSchedule = misfirePolicy == MisfirePolicy.SKIP_TO_NEXT
+            ? cronSchedule.withMisfireHandlingInstructionDoNothing()
+            : cronSchedule.withMisfireHandlingInstructionFireAndProceed();
+        CronTrigger trigger = TriggerBuilder.newTrigger()
+            .withIdentity(scheduleName, jobKey.getGroup())
+            .withSchedule(cronSchedule)
+            .withPriority(priority)
+            .usingJobData(MISFIRE_POLICY_KEY, misfirePolicy.name())
+            .usingJobData(CATCH_UP_LIMIT_KEY, String.valueOf(catchUpLimit))
+            .build();
+
+        return new ScheduledJob(jobDetail, trigger);
+	}
+
+    /**
+     * Removes a scheduler property from the deployment properties. Scheduler properties may be
+     * given with the prefixes {@code spring.cloud.scheduler.}, {@code scheduler.} and
+     * {@code spring.cloud.deployer.}, in that order of precedence; all variants are removed.
+     *
+     * @param properties The deployment properties
+     * @param name The property name without prefix, e.g. {@code cron.expression}
+     * @return The property value or null if it is not set
+     */
+    private static String removeSchedulerProperty(Map<String, String> properties, String name) {
+        String value = null;
+        for (String prefix : SCHEDULER_PROPERTY_PREFIXES) {
+            String prefixedValue = properties.remove(prefix + name);
+            if (value == null) {
+                value = prefixedValue;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Parses the jitter window of a schedule, e.g. {@code 30s} or {@code 500ms}.
+     *
+     * @param jitter The jitter window or null
+     * @return The jitter window in milliseconds, 0 if none is set
+     * @throws IllegalArgumentException if the jitter window is invalid or negative
+     */
+    private static long parseJitter(String jitter) {
+        if (jitter == null || jitter.trim().isEmpty()) return 0;
+
+        Duration duration = DurationStyle.detectAndParse(jitter.trim());
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Cron jitter must not be negative: " + jitter);
+        }
+        return duration.toMillis();
+    }
+
+    /**
+     * Parses the concurrency policy of a schedule, case-insensitively.
+     *
+     * @param concurrencyPolicy The policy name or null
+     * @return The policy, {@link ConcurrencyPolicy#ALLOW} if none is set
+     * @throws IllegalArgumentException if the policy is unknown
+     */
+    private static ConcurrencyPolicy parseConcurrencyPolicy(String concurrencyPolicy) {
+        if (concurrencyPolicy == null || concurrencyPolicy.trim().isEmpty()) return ConcurrencyPolicy.ALLOW;
+
+        try {
+            return ConcurrencyPolicy.valueOf(concurrencyPolicy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Concurrency policy must be one of "
+                + Arrays.toString(ConcurrencyPolicy.values()) + ": " + concurrencyPolicy);
+        }
+    }
+
+    /**
+     * Removes the retry properties of a schedule from the deployment properties and parses them.
+     *
+     * @param properties The deployment properties
+     * @return The retry policy, {@link RetryPolicy#NONE} if no retry attempts are set
+     * @throws IllegalArgumentException if a retry property is invalid
+     */
+    private static RetryPolicy parseRetryPolicy(Map<String, String> properties) {
+        String maxAttempts = removeSchedulerProperty(properties, "retry.max-attempts");
+        String backoff = removeSchedulerProperty(properties, "retry.backoff");
+        String maxBackoff = removeSchedulerProperty(properties, "retry.max-backoff");
+        String multiplier = removeSchedulerProperty(properties, "retry.multiplier");
+        if (maxAttempts == null || maxAttempts.trim().isEmpty()) return RetryPolicy.NONE;
+
+        try {
+            return new RetryPolicy(
+                Integer.parseInt(maxAttempts.trim()),
+                backoff != null ? DurationStyle.detectAndParse(backoff.trim()) : DEFAULT_RETRY_BACKOFF,
+                maxBackoff != null ? DurationStyle.detectAndParse(maxBackoff.trim()) : DEFAULT_RETRY_MAX_BACKOFF,
+                multiplier != null ? Double.parseDouble(multiplier.trim()) : DEFAULT_RETRY_MULTIPLIER);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Retry max attempts and multiplier must be numbers: "
+                + maxAttempts + ", " + multiplier);
+        }
+    }
+
+    /**
+     * Parses the trigger priority of a schedule.
+     *
+     * @param priority The priority
+     * @return The priority
+     * @throws IllegalArgumentException if the priority is not a number
+     */
+    private static int parsePriority(String priority) {
+        try {
+            return Integer.parseInt(priority.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Priority must be a number: " + priority);
+        }
+    }
+
+    /**
+     * Parses the catch-up limit of a schedule.
+     *
+     * @param catchUpLimit The catch-up limit
+     * @return The catch-up limit
+     * @throws IllegalArgumentException if the limit is not a positive number
+     */
+    private static int parseCatchUpLimit(String catchUpLimit) {
+        int limit;
+        try {
+            limit = Integer.parseInt(catchUpLimit.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Misfire catch-up limit must be a number: " + catchUpLimit);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Misfire catch-up limit must be positive: " + catchUpLimit);
+        }
+        return limit;
+    }
+
+    /**
+     * Computes the deterministic launch offset of a schedule within its jitter window.
+     * The offset depends only on the schedule name, so it is the same on every cluster node
+     * and across restarts.
+     *
+     * @param scheduleName The schedule name
+     * @param jitterMillis The jitter window in milliseconds
+     * @return The offset in milliseconds, between 0 (inclusive) and the window (exclusive)
+     */
+    public static long jitterOffsetMillis(String scheduleName, long jitterMillis) {
+        if (jitterMillis <= 0) return 0;
+
+        CRC32 crc = new CRC32();
+        crc.update(scheduleName.getBytes(StandardCharsets.UTF_8));
+        return Math.floorMod(crc.getValue(), jitterMillis);
+    }
+
 	/**
 	 * Unschedules (deletes) a scheduled task.
 	 *
@@ -161,10 +591,11 @@ public class QuartzScheduler implements Scheduler {
 	@Override
 	public void unschedule(String scheduleName) {
         try {
-            JobKey jobKey = new JobKey(scheduleName);
-            if (scheduler.checkExists(jobKey)) {
+            JobKey jobKey = findJobKey(scheduleName);
+            if (jobKey != null) {
                 scheduler.deleteJob(jobKey);
                 logger.info("Unscheduled task: {}", scheduleName);
+                recordChange();
             } else {
                 logger.warn("No job found to unschedule: {}", scheduleName);
             }
@@ -173,6 +604,53 @@ public class QuartzScheduler implements Scheduler {
 		}
 	}
 
+	/**
+	 * Unschedules (deletes) many scheduled tasks at once.
+	 * Schedule names are resolved with batched lookups and jobs are deleted with one JobStore
+	 * transaction per batch. If a batch fails, its schedules are retried one by one.
+	 *
+	 * @param scheduleNames The names of the schedules to delete
+	 * @return The names of deleted schedules and the failure of each schedule that could not be deleted
+	 */
+	public BatchScheduleResult unscheduleAll(Collection<String> scheduleNames) {
+        BatchScheduleResult result = new BatchScheduleResult();
+        Map<String, JobKey> jobKeys;
+        try {
+            jobKeys = findJobKeys(new LinkedHashSet<>(scheduleNames));
+        } catch (Exception e) {
+            scheduleNames.forEach(scheduleName -> result.addFailure(scheduleName, e));
+            return result;
+        }
+        for (String scheduleName : scheduleNames) {
+            if (!jobKeys.containsKey(scheduleName)) {
+                result.addFailure(scheduleName, new IllegalArgumentException("No job found to unschedule: " + scheduleName));
+            }
+        }
+
+        for (List<JobKey> batch : partition(new ArrayList<>(jobKeys.values()))) {
+            try {
+                scheduler.deleteJobs(batch);
+                batch.forEach(jobKey -> result.addSuccess(jobKey.getName()));
+            } catch (Exception batchFailure) {
+                logger.warn("Failed to unschedule batch of {} tasks, unscheduling them one by one", batch.size(), batchFailure);
+                for (JobKey jobKey : batch) {
+                    try {
+                        scheduler.deleteJob(jobKey);
+                        result.addSuccess(jobKey.getName());
+                    } catch (Exception e) {
+                        result.addFailure(jobKey.getName(), e);
+                    }
+                }
+            }
+        }
+
+        logger.info("Unscheduled {} tasks, {} failed", result.getSucceeded().size(), result.getFailures().size());
+        if (!result.getSucceeded().isEmpty()) {
+            recordChange();
+        }
+        return result;
+	}
+
 	/**
 	 * Lists all schedules for a specific task definition.
 	 *
@@ -181,15 +659,7 @@ public class QuartzScheduler implements Scheduler {
 	 */
 	@Override
 	public List<ScheduleInfo> list(String taskDefinitionName) {
-        try {
-            return scheduler.getJobKeys(GroupMatcher.anyGroup()).stream()
-                .map(jobKey -> createScheduleInfo(jobKey, taskDefinitionName))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            logger.error("Failed to list schedules", e);
-            return new ArrayList<>();
-        }
+        return listSchedules(taskDefinitionName);
 	}
 
 	/**
@@ -199,11 +669,149 @@ public class QuartzScheduler implements Scheduler {
 	 */
 	@Override
 	public List<ScheduleInfo> list() {
+        return listSchedules(null);
+    }
+
+    /**
+     * Lists lightweight summaries of all schedules.
+     * Only the schedule name, task definition name and cron expression are read;
+     * deployment properties are deserialized per schedule on first access.
+     *
+     * @return List of schedule summaries
+     */
+    public List<ScheduleSummary> listSummaries() {
+        return listSummaries(null);
+    }
+
+    /**
+     * Lists lightweight summaries of the schedules of a task definition.
+     *
+     * @param taskDefinitionName The task definition name to filter by, or null for all schedules
+     * @return List of schedule summaries matching the task definition
+     * @see #listSummaries()
+     */
+    public List<ScheduleSummary> listSummaries(String taskDefinitionName) {
         try {
-            return scheduler.getJobKeys(GroupMatcher.anyGroup()).stream()
-                .map(jobKey -> createScheduleInfo(jobKey, null))
+            // Cached schedules are already materialized, summaries just wrap them
+            if (scheduleCache != null) {
+                return listSchedules(taskDefinitionName).stream()
+                    .map(this::createScheduleSummary)
+                    .collect(Collectors.toList());
+            }
+            return loadRecords(taskDefinitionName).stream()
+                .map(record -> createScheduleSummary(record, taskDefinitionName))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Failed to list schedule summaries", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Lists one page of schedules ordered by schedule name.
+     * Pages are addressed by the last schedule name of the previous page (keyset pagination),
+     * so each page costs one bounded query no matter how deep it is.
+     * Pages are always read from the database, bypassing the schedule cache.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @param afterScheduleName The last schedule name of the previous page, or null for the first page
+     * @param limit The maximum number of schedules to return
+     * @return List of at most limit schedules; fewer than limit means there are no more pages
+     */
+    public List<ScheduleInfo> listPage(String taskDefinitionName, String afterScheduleName, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        try {
+            String group = taskDefinitionName != null ? groupName(taskDefinitionName) : null;
+            List<ScheduleRecord> records;
+            if (scheduleRepository != null) {
+                // The page key includes the group, which is only known by name across all groups
+                String afterGroup = group == null && afterScheduleName != null
+                    ? scheduleRepository.findJobGroup(afterScheduleName)
+                    : null;
+                records = scheduleRepository.findPage(group, afterScheduleName, afterGroup, limit);
+            } else {
+                GroupMatcher<JobKey> matcher = group != null
+                    ? GroupMatcher.jobGroupEquals(group)
+                    : GroupMatcher.anyJobGroup();
+                records = scheduler.getJobKeys(matcher).stream()
+                    .filter(jobKey -> afterScheduleName == null || jobKey.getName().compareTo(afterScheduleName) > 0)
+                    .sorted(Comparator.comparing(JobKey::getName))
+                    .limit(limit)
+                    .map(this::loadRecord)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            }
+            return records.stream()
+                .map(record -> createScheduleInfo(record.getScheduleName(), record.getProperties(),
+                    record.getCronExpression(), taskDefinitionName))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Failed to list schedule page", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Streams schedules ordered by schedule name to the given action, one at a time.
+     * Schedules are read through a server-side cursor and never collected into a list,
+     * so memory use stays constant regardless of the catalog size.
+     * The database connection is held until the action has been applied to the last schedule.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @param action The action applied to each schedule
+     * @throws IllegalStateException if the schedules cannot be read
+     */
+    public void forEachSchedule(String taskDefinitionName, Consumer<ScheduleInfo> action) {
+        Consumer<ScheduleRecord> recordConsumer = record -> {
+            ScheduleInfo scheduleInfo = createScheduleInfo(record.getScheduleName(), record.getProperties(),
+                record.getCronExpression(), taskDefinitionName);
+            if (scheduleInfo != null) {
+                action.accept(scheduleInfo);
+            }
+        };
+        try {
+            String group = taskDefinitionName != null ? groupName(taskDefinitionName) : null;
+            if (scheduleRepository != null) {
+                scheduleRepository.stream(group, recordConsumer);
+                return;
+            }
+            GroupMatcher<JobKey> matcher = group != null
+                ? GroupMatcher.jobGroupEquals(group)
+                : GroupMatcher.anyJobGroup();
+            scheduler.getJobKeys(matcher).stream()
+                .sorted(Comparator.comparing(JobKey::getName))
+                .map(this::loadRecord)
+                .filter(Objects::nonNull)
+                .forEach(recordConsumer);
+        } catch (SchedulerException | DataAccessException e) {
+            throw new IllegalStateException("Failed to stream schedules", e);
+        }
+    }
+
+    /**
+     * Lists schedules, optionally filtered by task definition name.
+     * Schedules are served from the cache when one is configured. While the catalog is too large to
+     * cache, the schedules of one task definition are read from its group only.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @return List of schedule information
+     */
+    private List<ScheduleInfo> listSchedules(String taskDefinitionName) {
+        try {
+            if (scheduleCache != null) {
+                return scheduleCache.list(taskDefinitionName, name -> {
+                    try {
+                        return loadSchedules(name);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Failed to load schedules", e);
+                    }
+                });
+            }
+            return loadSchedules(taskDefinitionName);
         } catch (Exception e) {
             logger.error("Failed to list schedules", e);
             return new ArrayList<>();
@@ -211,29 +819,427 @@ public class QuartzScheduler implements Scheduler {
     }
 
     /**
-     * Creates a ScheduleInfo object from a job key.
-     * This helper method extracts schedule information from the Quartz job data.
+     * Loads schedules, optionally filtered by task definition name.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @return List of schedule information
+     * @throws Exception if the schedules cannot be read
+     */
+    private List<ScheduleInfo> loadSchedules(String taskDefinitionName) throws Exception {
+        return loadRecords(taskDefinitionName).stream()
+            .map(record -> createScheduleInfo(record.getScheduleName(), record.getProperties(),
+                record.getCronExpression(), taskDefinitionName))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the stored schedule records, optionally filtered by task definition name.
+     * When a repository is available, all schedules are read in a single query;
+     * otherwise each job is loaded through the JobStore.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @return List of schedule records
+     * @throws Exception if the schedules cannot be read
+     */
+    private List<ScheduleRecord> loadRecords(String taskDefinitionName) throws Exception {
+        if (scheduleRepository != null) {
+            return taskDefinitionName != null
+                ? scheduleRepository.findByGroup(groupName(taskDefinitionName))
+                : scheduleRepository.findAll();
+        }
+        GroupMatcher<JobKey> matcher = taskDefinitionName != null
+            ? GroupMatcher.jobGroupEquals(groupName(taskDefinitionName))
+            : GroupMatcher.anyJobGroup();
+        return scheduler.getJobKeys(matcher).stream()
+            .map(this::loadRecord)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Logs every stored schedule with its task definition and cron expression.
+     * This is an on-demand diagnostic operation that reads the whole catalog;
+     * it is never called on the scheduling path.
+     */
+    public void logScheduleCatalog() {
+        logger.info("Current schedules:");
+        forEachSchedule(null, scheduleInfo -> logger.info("Schedule: {}, definition: {}, cron: {}",
+            scheduleInfo.getScheduleName(), scheduleInfo.getTaskDefinitionName(),
+            scheduleInfo.getScheduleProperties().get("spring.cloud.scheduler.cron.expression")));
+    }
+
+    /**
+     * Moves schedules created in Quartz's DEFAULT group into the group of their task definition.
+     * Earlier versions stored every schedule in the DEFAULT group; this one-time migration makes them
+     * visible to the group-based lookups.
+     *
+     * <p>With a transaction manager (see {@link #setTransactionManager(PlatformTransactionManager)}), each
+     * schedule is moved in one transaction, so it is never lost or stored twice. Triggers are recreated with the same schedule and continue
+     * from their next fire time, so the move neither resets their start time nor causes a misfire.
+     * A schedule that cannot be moved is logged and left in the DEFAULT group, where it keeps firing.
+     *
+     * <p>The migration is idempotent and may run concurrently on several cluster nodes.
+     *
+     * @return The number of migrated schedules
+     * @throws IllegalStateException if the DEFAULT group cannot be read
+     */
+    public int migrateDefaultGroup() {
+        Set<JobKey> jobKeys;
+        try {
+            jobKeys = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Failed to read schedules of the DEFAULT group", e);
+        }
+
+        int migrated = 0;
+        for (JobKey jobKey : jobKeys) {
+            try {
+                String group = migrateFromDefaultGroup(jobKey);
+                if (group != null) {
+                    logger.info("Migrated schedule {} to group {}", jobKey.getName(), group);
+                    migrated++;
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to migrate schedule {} from the DEFAULT group, leaving it in place",
+                    jobKey.getName(), e);
+            }
+        }
+        if (migrated > 0) {
+            recordChange();
+        }
+        return migrated;
+    }
+
+    /**
+     * Moves one job and its triggers from the DEFAULT group into the group of its task definition.
+     *
+     * @param jobKey The key of the job in the DEFAULT group
+     * @return The new group, or null if the job isn't a schedule or has already been moved
+     * @throws Exception if the job cannot be read or moved
+     */
+    private String migrateFromDefaultGroup(JobKey jobKey) throws Exception {
+        JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+        if (jobDetail == null || !QuartzExecutionJob.class.equals(jobDetail.getJobClass())) return null;
+
+        String properties = jobDetail.getJobDataMap().getString("properties");
+        if (properties == null) return null;
+        String taskDefinitionName = objectMapper.readTree(properties)
+            .path("definition").path("name").asText();
+        if (taskDefinitionName.isEmpty()) return null;
+
+        String group = groupName(taskDefinitionName);
+        JobDetail migratedJob = jobDetail.getJobBuilder()
+            .withIdentity(jobKey.getName(), group)
+            .build();
+        Set<Trigger> migratedTriggers = new HashSet<>();
+        for (Trigger trigger : scheduler.getTriggersOfJob(jobKey)) {
+            // Starting at the next fire time keeps the schedule without a missed fire in the past
+            Date nextFireTime = trigger.getNextFireTime();
+            Date startTime = nextFireTime != null && nextFireTime.after(trigger.getStartTime())
+                ? nextFireTime : trigger.getStartTime();
+            migratedTriggers.add(trigger.getTriggerBuilder()
+                .withIdentity(trigger.getKey().getName(), group)
+                .forJob(migratedJob)
+                .startAt(startTime)
+                .build());
+        }
+
+        atomically(() -> {
+            scheduler.scheduleJob(migratedJob, migratedTriggers, true);
+            scheduler.deleteJob(jobKey);
+        });
+        return group;
+    }
+
+    /**
+     * Derives the Quartz job and trigger group for a task definition.
+     * Names longer than the group column allows are shortened with a hash suffix.
+     *
+     * @param taskDefinitionName The task definition name
+     * @return The group name
+     */
+    public static String groupName(String taskDefinitionName) {
+        if (taskDefinitionName.length() <= MAX_GROUP_NAME_LENGTH) {
+            return taskDefinitionName;
+        }
+        String hash = Integer.toHexString(taskDefinitionName.hashCode());
+        return taskDefinitionName.substring(0, MAX_GROUP_NAME_LENGTH - hash.length() - 1) + "-" + hash;
+    }
+
+    /**
+     * Records a schedule mutation in the cache, if one is configured.
+     * A failure here must not fail the mutation itself, so the cache is invalidated instead.
+     */
+    private void recordChange() {
+        if (scheduleCache == null) return;
+        try {
+            scheduleCache.recordLocalChange();
+        } catch (Exception e) {
+            logger.warn("Failed to record schedule change, invalidating schedule cache", e);
+            scheduleCache.invalidate();
+        }
+    }
+
+    /**
+     * Runs JobStore operations in one transaction, if a transaction manager is set.
+     * The schedule cache is invalidated on failure, as it may have applied changes that were rolled back.
+     *
+     * @param operation The JobStore operations
+     * @throws SchedulerException if an operation fails
+     */
+    private void atomically(SchedulerOperation operation) throws SchedulerException {
+        try {
+            if (transactionTemplate == null) {
+                operation.run();
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    operation.run();
+                } catch (SchedulerException e) {
+                    throw new SchedulerOperationException(e);
+                }
+            });
+        } catch (SchedulerOperationException e) {
+            invalidateCache();
+            throw e.getCause();
+        } catch (SchedulerException | RuntimeException e) {
+            invalidateCache();
+            throw e;
+        }
+    }
+
+    private void invalidateCache() {
+        if (scheduleCache != null) {
+            scheduleCache.invalidate();
+        }
+    }
+
+    /**
+     * Resolves the job keys of many schedules regardless of their groups.
+     *
+     * @param scheduleNames The schedule (job) names
+     * @return The job keys of existing schedules by schedule name
+     * @throws SchedulerException if the JobStore cannot be read
+     */
+    private Map<String, JobKey> findJobKeys(Collection<String> scheduleNames) throws SchedulerException {
+        Map<String, JobKey> jobKeys = new LinkedHashMap<>();
+        if (scheduleRepository != null) {
+            scheduleRepository.findJobGroups(scheduleNames)
+                .forEach((scheduleName, group) -> jobKeys.put(scheduleName, new JobKey(scheduleName, group)));
+            return jobKeys;
+        }
+        for (String scheduleName : scheduleNames) {
+            JobKey jobKey = findJobKey(scheduleName);
+            if (jobKey != null) jobKeys.put(scheduleName, jobKey);
+        }
+        return jobKeys;
+    }
+
+    /**
+     * Compares a new schedule with the stored job and trigger of the same key.
+     *
+     * @param scheduledJob The new job and trigger
+     * @return What changed compared to the stored schedule
+     * @throws SchedulerException if the JobStore cannot be read
+     */
+    private ScheduleChange detectChange(ScheduledJob scheduledJob) throws SchedulerException {
+        JobDetail currentJob = scheduler.getJobDetail(scheduledJob.jobDetail.getKey());
+        if (currentJob == null || !currentJob.getJobClass().equals(scheduledJob.jobDetail.getJobClass())) {
+            return ScheduleChange.PAYLOAD;
+        }
+        String currentHash = currentJob.getJobDataMap().getString(PAYLOAD_HASH_KEY);
+        if (currentHash == null || !currentHash.equals(scheduledJob.jobDetail.getJobDataMap().getString(PAYLOAD_HASH_KEY))) {
+            return ScheduleChange.PAYLOAD;
+        }
+
+        Trigger currentTrigger = scheduler.getTrigger(scheduledJob.trigger.getKey());
+        if (!(currentTrigger instanceof CronTrigger)) {
+            return ScheduleChange.PAYLOAD;
+        }
+        CronTrigger currentCronTrigger = (CronTrigger) currentTrigger;
+        CronTrigger trigger = scheduledJob.trigger;
+        boolean sameTrigger = currentCronTrigger.getCronExpression().equals(trigger.getCronExpression())
+            && Objects.equals(currentCronTrigger.getTimeZone(), trigger.getTimeZone())
+            && currentCronTrigger.getPriority() == trigger.getPriority()
+            && currentCronTrigger.getMisfireInstruction() == trigger.getMisfireInstruction()
+            && sameTriggerData(currentCronTrigger, trigger, MISFIRE_POLICY_KEY)
+            && sameTriggerData(currentCronTrigger, trigger, CATCH_UP_LIMIT_KEY)
+            // Repairs job data whose cron expression was left behind by an earlier trigger-only change
+            && Objects.equals(currentJob.getJobDataMap().getString("properties"),
+                scheduledJob.jobDetail.getJobDataMap().getString("properties"));
+        return sameTrigger ? ScheduleChange.NONE : ScheduleChange.TRIGGER;
+    }
+
+    private static boolean sameTriggerData(Trigger current, Trigger trigger, String key) {
+        return Objects.equals(current.getJobDataMap().getString(key), trigger.getJobDataMap().getString(key));
+    }
+
+    /**
+     * Computes the hex-encoded SHA-256 hash of a string.
+     */
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Splits a list into consecutive batches of at most the batch size.
+     */
+    private <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += batchSize) {
+            batches.add(items.subList(i, Math.min(i + batchSize, items.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Resolves the job key of a schedule regardless of its group.
+     * Uses an indexed lookup when a repository is available, otherwise probes each job group.
+     *
+     * @param scheduleName The schedule (job) name
+     * @return The job key or null if the schedule doesn't exist
+     * @throws SchedulerException if the JobStore cannot be read
+     */
+    private JobKey findJobKey(String scheduleName) throws SchedulerException {
+        if (scheduleRepository != null) {
+            String group = scheduleRepository.findJobGroup(scheduleName);
+            return group != null ? new JobKey(scheduleName, group) : null;
+        }
+        for (String group : scheduler.getJobGroupNames()) {
+            JobKey jobKey = new JobKey(scheduleName, group);
+            if (scheduler.checkExists(jobKey)) return jobKey;
+        }
+        return null;
+    }
+
+    /**
+     * Loads a schedule record from a job key.
+     * This helper method loads the job and its triggers through the JobStore.
      *
      * @param jobKey The job key to get information for
-     * @param filterTaskDefinitionName Optional task definition name to filter by
-     * @return ScheduleInfo object or null if the job doesn't match criteria
+     * @return ScheduleRecord object or null if the job isn't a cron schedule
      */
-    private ScheduleInfo createScheduleInfo(JobKey jobKey, String filterTaskDefinitionName) {
+    private ScheduleRecord loadRecord(JobKey jobKey) {
         try {
             JobDetail jobDetail = scheduler.getJobDetail(jobKey);
             if (jobDetail == null) return null;
 
-            JobDataMap jobDataMap = jobDetail.getJobDataMap();
-            String properties = jobDataMap.getString("properties");
+            String properties = jobDetail.getJobDataMap().getString("properties");
             if (properties == null) return null;
 
-            List<? extends Trigger> triggers = scheduler.getTriggersOfJob(jobKey);
-            if (triggers == null || triggers.isEmpty()) return null;
+            CronTrigger trigger = scheduler.getTriggersOfJob(jobKey).stream()
+                .filter(CronTrigger.class::isInstance)
+                .map(CronTrigger.class::cast)
+                .findFirst()
+                .orElse(null);
+            if (trigger == null) return null;
+
+            return new ScheduleRecord(jobKey.getName(), jobKey.getGroup(), properties,
+                trigger.getCronExpression(), trigger.getTimeZone() != null ? trigger.getTimeZone().getID() : null);
+        } catch (Exception e) {
+            logger.warn("Failed to get schedule info for job: {}", jobKey.getName(), e);
+            return null;
+        }
+    }
 
-            Trigger trigger = triggers.get(0);
-            if (!(trigger instanceof CronTrigger)) return null;
+    /**
+     * Creates a ScheduleSummary from a stored schedule record.
+     * The payload is read with a streaming parser that skips deployment properties and
+     * arguments entirely; they are only deserialized if the summary's properties are accessed.
+     *
+     * @param record The stored schedule record
+     * @param filterTaskDefinitionName Optional task definition name to filter by
+     * @return ScheduleSummary object or null if the job doesn't match criteria
+     */
+    private ScheduleSummary createScheduleSummary(ScheduleRecord record, String filterTaskDefinitionName) {
+        String properties = record.getProperties();
+        if (properties == null) return null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(properties)) {
+            String taskDefinitionName = null;
+            String cronExpression = record.getCronExpression();
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("definition".equals(field) && token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String definitionField = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("name".equals(definitionField)) {
+                            taskDefinitionName = parser.getValueAsString();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("cronExpression".equals(field) && cronExpression == null) {
+                    cronExpression = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (taskDefinitionName == null || taskDefinitionName.isEmpty() || cronExpression == null) return null;
+            if (filterTaskDefinitionName != null && !filterTaskDefinitionName.equals(taskDefinitionName)) {
+                return null;
+            }
+
+            String scheduleCron = cronExpression;
+            return new ScheduleSummary(record.getScheduleName(), taskDefinitionName, cronExpression, () -> {
+                ScheduleInfo scheduleInfo = createScheduleInfo(record.getScheduleName(), properties, scheduleCron, null);
+                return scheduleInfo != null ? scheduleInfo.getScheduleProperties() : new HashMap<>();
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to get schedule summary for job: {}", record.getScheduleName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a ScheduleSummary wrapping an already materialized ScheduleInfo.
+     */
+    private ScheduleSummary createScheduleSummary(ScheduleInfo scheduleInfo) {
+        Map<String, String> scheduleProperties = scheduleInfo.getScheduleProperties();
+        ScheduleSummary summary = new ScheduleSummary(scheduleInfo.getScheduleName(),
+            scheduleInfo.getTaskDefinitionName(),
+            scheduleProperties.get("spring.cloud.scheduler.cron.expression"),
+            null);
+        summary.setScheduleProperties(scheduleProperties);
+        return summary;
+    }
+
+    /**
+     * Creates a ScheduleInfo object from the stored schedule payload.
+     * This helper method extracts schedule information from the Quartz job data.
+     *
+     * @param scheduleName The schedule (job) name
+     * @param properties The JSON payload stored in the job data
+     * @param cronExpression The cron expression of the job's trigger, or null to use the one in the payload
+     * @param filterTaskDefinitionName Optional task definition name to filter by
+     * @return ScheduleInfo object or null if the job doesn't match criteria
+     */
+    private ScheduleInfo createScheduleInfo(String scheduleName, String properties, String cronExpression,
+                                            String filterTaskDefinitionName) {
+        try {
+            if (properties == null) return null;
 
             JsonNode rootNode = objectMapper.readTree(properties);
+            if (cronExpression == null) {
+                cronExpression = rootNode.path("cronExpression").asText(null);
+                if (cronExpression == null) return null;
+            }
             String taskDefinitionName = rootNode.path("definition").path("name").asText();
             
             // Filter by task definition name if specified
@@ -242,15 +1248,30 @@ public class QuartzScheduler implements Scheduler {
             }
             if (taskDefinitionName == null || taskDefinitionName.isEmpty()) return null;
 
-            String cronExpression = ((CronTrigger) trigger).getCronExpression();
             ScheduleInfo scheduleInfo = new ScheduleInfo();
-            scheduleInfo.setScheduleName(jobKey.getName());
+            scheduleInfo.setScheduleName(scheduleName);
             scheduleInfo.setTaskDefinitionName(taskDefinitionName);
 
             // Set schedule properties
             Map<String, String> scheduleProperties = new HashMap<>();
             scheduleProperties.put("spring.cloud.scheduler.cron.expression", cronExpression);
             scheduleProperties.put("platform", "local");
+            long jitterMillis = rootNode.path("jitterMillis").asLong();
+            if (jitterMillis > 0) {
+                scheduleProperties.put("spring.cloud.scheduler.cron.jitter", jitterMillis + "ms");
+            }
+            if (rootNode.hasNonNull("concurrencyPolicy")) {
+                scheduleProperties.put("spring.cloud.scheduler.concurrency-policy",
+                    rootNode.path("concurrencyPolicy").asText());
+            }
+            JsonNode retryNode = rootNode.path("retry");
+            if (retryNode.isObject()) {
+                scheduleProperties.put("spring.cloud.scheduler.retry.max-attempts", retryNode.path("maxAttempts").asText());
+                scheduleProperties.put("spring.cloud.scheduler.retry.backoff", retryNode.path("backoffMillis").asText() + "ms");
+                scheduleProperties.put("spring.cloud.scheduler.retry.max-backoff",
+                    retryNode.path("maxBackoffMillis").asText() + "ms");
+                scheduleProperties.put("spring.cloud.scheduler.retry.multiplier", retryNode.path("multiplier").asText());
+            }
 
             // Add deployment properties
             JsonNode deploymentPropertiesNode = rootNode.path("deploymentProperties");
@@ -265,8 +1286,114 @@ public class QuartzScheduler implements Scheduler {
             scheduleInfo.setScheduleProperties(scheduleProperties);
             return scheduleInfo;
         } catch (Exception e) {
-            logger.warn("Failed to get schedule info for job: {}", jobKey.getName(), e);
+            logger.warn("Failed to get schedule info for job: {}", scheduleName, e);
             return null;
         }
 	}
-}
\ No newline at end of file
+
+    /**
+     * Applies local schedule changes to the schedule cache.
+     * Jobs are cached from their stored payload as soon as they are added;
+     * the cron expression is then taken from the trigger once it is scheduled.
+     */
+    private class ScheduleCacheListener extends SchedulerListenerSupport {
+
+        private final ScheduleInfoCache cache;
+
+        ScheduleCacheListener(ScheduleInfoCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void jobAdded(JobDetail jobDetail) {
+            if (!QuartzExecutionJob.class.equals(jobDetail.getJobClass())) return;
+
+            ScheduleInfo scheduleInfo = createScheduleInfo(jobDetail.getKey().getName(),
+                jobDetail.getJobDataMap().getString("properties"), null, null);
+            if (scheduleInfo != null) {
+                cache.put(scheduleInfo);
+            } else {
+                cache.remove(jobDetail.getKey().getName());
+            }
+        }
+
+        @Override
+        public void jobScheduled(Trigger trigger) {
+            if (!(trigger instanceof CronTrigger)) return;
+
+            ScheduleInfo cached = cache.get(trigger.getJobKey().getName());
+            String cronExpression = ((CronTrigger) trigger).getCronExpression();
+            if (cached == null || cronExpression.equals(
+                    cached.getScheduleProperties().get("spring.cloud.scheduler.cron.expression"))) {
+                return;
+            }
+
+            ScheduleInfo scheduleInfo = new ScheduleInfo();
+            scheduleInfo.setScheduleName(cached.getScheduleName());
+            scheduleInfo.setTaskDefinitionName(cached.getTaskDefinitionName());
+            Map<String, String> scheduleProperties = new HashMap<>(cached.getScheduleProperties());
+            scheduleProperties.put("spring.cloud.scheduler.cron.expression", cronExpression);
+            scheduleInfo.setScheduleProperties(scheduleProperties);
+            cache.put(scheduleInfo);
+        }
+
+        @Override
+        public void jobDeleted(JobKey jobKey) {
+            cache.remove(jobKey.getName());
+        }
+
+        @Override
+        public void schedulingDataCleared() {
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * A job and its cron trigger, created from a schedule request.
+     */
+    private static class ScheduledJob {
+
+        private final JobDetail jobDetail;
+        private final CronTrigger trigger;
+
+        ScheduledJob(JobDetail jobDetail, CronTrigger trigger) {
+            this.jobDetail = jobDetail;
+            this.trigger = trigger;
+        }
+    }
+
+    /**
+     * JobStore operations run by {@link #atomically(SchedulerOperation)}.
+     */
+    @FunctionalInterface
+    private interface SchedulerOperation {
+        void run() throws SchedulerException;
+    }
+
+    /**
+     * Carries a SchedulerException out of a transaction callback.
+     */
+    private static final class SchedulerOperationException extends RuntimeException {
+
+        private SchedulerOperationException(SchedulerException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SchedulerException getCause() {
+            return (SchedulerException) super.getCause();
+        }
+    }
+
+    /**
+     * Difference between a new schedule and the stored one.
+     */
+    private enum ScheduleChange {
+        // Identical payload and cron expression
+        NONE,
+        // Identical payload, different cron expression or trigger settings; job data and trigger are rewritten
+        TRIGGER,
+        // Different payload, or nothing comparable stored
+        PAYLOAD
+    }
+}
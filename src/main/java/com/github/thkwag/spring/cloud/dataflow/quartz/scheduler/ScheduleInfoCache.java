@@ -0,0 +1,291 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of materialized {@link ScheduleInfo} objects, indexed by task definition.
+ * The cache holds a snapshot of all schedules and is kept up to date in two ways:
+ *
+ * <ul>
+ *   <li>Changes made on the local node are applied incrementally by {@link QuartzScheduler}
+ *       from Quartz scheduler listener events</li>
+ *   <li>Changes made on other cluster nodes are detected through the shared change version
+ *       (see {@link ScheduleVersionRepository}), checked at most once per check interval,
+ *       and trigger a full reload</li>
+ * </ul>
+ *
+ * <p>The cache is bounded: if the catalog grows beyond the maximum size, schedules are served
+ * directly from the database until it shrinks again. Listings of one task definition then only
+ * load that task definition's schedules, and only full listings check whether the catalog fits again.
+ *
+ * <p>Metrics are published as {@code cache.gets} (tagged {@code result=hit|miss}) and
+ * {@code cache.size}, both tagged {@code cache=quartz-schedules}.
+ *
+ * <p>Returned ScheduleInfo instances are shared and must not be modified.
+ *
+ * @see QuartzScheduler
+ */
+public class ScheduleInfoCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleInfoCache.class);
+    private static final String CACHE_NAME = "quartz-schedules";
+
+    private final ScheduleVersionRepository versionRepository;
+    private final int maxSize;
+    private final long versionCheckIntervalMillis;
+    private final Counter hits;
+    private final Counter misses;
+
+    // Guarded by this
+    private final Map<String, ScheduleInfo> schedules = new TreeMap<>();
+    private final Map<String, Set<String>> schedulesByDefinition = new HashMap<>();
+    private boolean loaded;
+    private boolean stale;
+    // Whether the catalog was larger than the maximum size when last loaded
+    private boolean overflowing;
+    private long knownVersion;
+    private long lastVersionCheck;
+    private long modificationCount;
+
+    /**
+     * Creates a new ScheduleInfoCache.
+     *
+     * @param versionRepository The repository holding the cluster-wide change version
+     * @param maxSize The maximum number of cached schedules
+     * @param versionCheckInterval The minimum interval between two change version checks
+     * @param meterRegistry The registry for cache metrics
+     */
+    public ScheduleInfoCache(ScheduleVersionRepository versionRepository, int maxSize,
+                             Duration versionCheckInterval, MeterRegistry meterRegistry) {
+        this.versionRepository = versionRepository;
+        this.maxSize = maxSize;
+        this.versionCheckIntervalMillis = versionCheckInterval.toMillis();
+        this.hits = Counter.builder("cache.gets")
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("cache.size", this, ScheduleInfoCache::size)
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Lists cached schedules, reloading all of them through the loader when the cache is stale.
+     * While the catalog is too large to cache, listings of one task definition load only its schedules.
+     *
+     * @param taskDefinitionName Optional task definition name to filter by
+     * @param loader Loads the schedules of a task definition from the database, or all of them for null
+     * @return List of schedule information, ordered by schedule name
+     */
+    public List<ScheduleInfo> list(String taskDefinitionName, Function<String, List<ScheduleInfo>> loader) {
+        if (!isStale()) {
+            hits.increment();
+            return snapshot(taskDefinitionName);
+        }
+
+        misses.increment();
+        if (taskDefinitionName != null && isOverflowing()) {
+            return loader.apply(taskDefinitionName);
+        }
+        List<ScheduleInfo> scheduleInfos = reload(() -> loader.apply(null));
+        if (taskDefinitionName == null) {
+            return scheduleInfos;
+        }
+        List<ScheduleInfo> result = new ArrayList<>();
+        for (ScheduleInfo scheduleInfo : scheduleInfos) {
+            if (taskDefinitionName.equals(scheduleInfo.getTaskDefinitionName())) {
+                result.add(scheduleInfo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds or replaces a schedule after a local change.
+     *
+     * @param scheduleInfo The schedule to cache
+     */
+    public synchronized void put(ScheduleInfo scheduleInfo) {
+        modificationCount++;
+        if (!loaded) return;
+
+        add(scheduleInfo);
+        if (schedules.size() > maxSize) {
+            invalidate();
+            overflowing = true;
+        }
+    }
+
+    /**
+     * Looks up a cached schedule.
+     *
+     * @param scheduleName The schedule name
+     * @return The cached schedule or null if it isn't cached
+     */
+    public synchronized ScheduleInfo get(String scheduleName) {
+        return loaded ? schedules.get(scheduleName) : null;
+    }
+
+    /**
+     * Removes a schedule after a local change.
+     *
+     * @param scheduleName The name of the removed schedule
+     */
+    public synchronized void remove(String scheduleName) {
+        remove(scheduleName, true);
+    }
+
+    /**
+     * Records a local schedule mutation in the cluster-wide change version.
+     * If no other node changed schedules since the last known version,
+     * the cache adopts the new version without reloading.
+     */
+    public void recordLocalChange() {
+        long version = versionRepository.increment();
+        synchronized (this) {
+            if (version == knownVersion + 1) {
+                knownVersion = version;
+            } else {
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * Discards all cached schedules; the next listing reloads them.
+     */
+    public synchronized void invalidate() {
+        modificationCount++;
+        loaded = false;
+        schedules.clear();
+        schedulesByDefinition.clear();
+    }
+
+    /**
+     * Returns the number of cached schedules.
+     *
+     * @return The cache size
+     */
+    public synchronized int size() {
+        return schedules.size();
+    }
+
+    private synchronized boolean isOverflowing() {
+        return overflowing;
+    }
+
+    private void add(ScheduleInfo scheduleInfo) {
+        remove(scheduleInfo.getScheduleName(), false);
+        schedules.put(scheduleInfo.getScheduleName(), scheduleInfo);
+        schedulesByDefinition
+            .computeIfAbsent(scheduleInfo.getTaskDefinitionName(), key -> new TreeSet<>())
+            .add(scheduleInfo.getScheduleName());
+    }
+
+    private void remove(String scheduleName, boolean modification) {
+        if (modification) modificationCount++;
+
+        ScheduleInfo removed = schedules.remove(scheduleName);
+        if (removed == null) return;
+
+        Set<String> names = schedulesByDefinition.get(removed.getTaskDefinitionName());
+        if (names != null) {
+            names.remove(scheduleName);
+            if (names.isEmpty()) {
+                schedulesByDefinition.remove(removed.getTaskDefinitionName());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the cache needs to be reloaded.
+     * The change version is read from the database at most once per check interval.
+     */
+    private boolean isStale() {
+        synchronized (this) {
+            if (!loaded || stale) return true;
+
+            long now = System.currentTimeMillis();
+            if (now - lastVersionCheck < versionCheckIntervalMillis) return false;
+            lastVersionCheck = now;
+        }
+
+        long version = versionRepository.currentVersion();
+        synchronized (this) {
+            if (version == knownVersion) return false;
+            logger.debug("Schedule change version moved from {} to {}, reloading", knownVersion, version);
+            return true;
+        }
+    }
+
+    /**
+     * Reloads all schedules and caches them unless there are too many.
+     *
+     * @return The loaded schedules
+     */
+    private List<ScheduleInfo> reload(Supplier<List<ScheduleInfo>> loader) {
+        long version = versionRepository.currentVersion();
+        long modificationCountBefore;
+        synchronized (this) {
+            modificationCountBefore = modificationCount;
+        }
+
+        List<ScheduleInfo> scheduleInfos = loader.get();
+
+        synchronized (this) {
+            schedules.clear();
+            schedulesByDefinition.clear();
+
+            if (scheduleInfos.size() > maxSize) {
+                if (!overflowing) {
+                    logger.warn("{} schedules exceed the cache size of {}, schedules are not cached",
+                        scheduleInfos.size(), maxSize);
+                    overflowing = true;
+                }
+                loaded = false;
+                return scheduleInfos;
+            }
+
+            for (ScheduleInfo scheduleInfo : scheduleInfos) {
+                add(scheduleInfo);
+            }
+            loaded = true;
+            // A local change during the load may be missing from the snapshot
+            stale = modificationCount != modificationCountBefore;
+            knownVersion = version;
+            lastVersionCheck = System.currentTimeMillis();
+            overflowing = false;
+            return scheduleInfos;
+        }
+    }
+
+    private synchronized List<ScheduleInfo> snapshot(String taskDefinitionName) {
+        if (taskDefinitionName == null) {
+            return new ArrayList<>(schedules.values());
+        }
+        List<ScheduleInfo> result = new ArrayList<>();
+        for (String scheduleName : schedulesByDefinition.getOrDefault(taskDefinitionName, Collections.emptySet())) {
+            result.add(schedules.get(scheduleName));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+/**
+ * Raw schedule data as stored in the Quartz tables.
+ * A record pairs a job's serialized schedule payload with the cron expression of its trigger,
+ * which is everything needed to build a {@link org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo}.
+ *
+ * @see QuartzScheduleRepository
+ */
+public class ScheduleRecord {
+
+    private final String scheduleName;
+    private final String groupName;
+    private final String properties;
+    private final String cronExpression;
+    private final String timeZoneId;
+
+    /**
+     * Creates a new ScheduleRecord.
+     *
+     * @param scheduleName The job name, which is the schedule name
+     * @param groupName The job group
+     * @param properties The JSON payload stored under the 'properties' job data key
+     * @param cronExpression The cron expression of the job's trigger
+     * @param timeZoneId The time zone of the job's trigger, may be null
+     */
+    public ScheduleRecord(String scheduleName, String groupName, String properties,
+                          String cronExpression, String timeZoneId) {
+        this.scheduleName = scheduleName;
+        this.groupName = groupName;
+        this.properties = properties;
+        this.cronExpression = cronExpression;
+        this.timeZoneId = timeZoneId;
+    }
+
+    public String getScheduleName() {
+        return scheduleName;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public String getProperties() {
+        return properties;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public String getTimeZoneId() {
+        return timeZoneId;
+    }
+}
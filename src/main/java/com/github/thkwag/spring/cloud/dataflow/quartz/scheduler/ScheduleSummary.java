@@ -0,0 +1,65 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight schedule information returned by {@link QuartzScheduler#listSummaries()}.
+ * A summary carries the schedule name, task definition name and cron expression.
+ * The full schedule properties, including all deployment properties, are only
+ * deserialized when {@link #getScheduleProperties()} is first called.
+ *
+ * @see QuartzScheduler#listSummaries(String)
+ */
+public class ScheduleSummary extends ScheduleInfo {
+
+    private final String cronExpression;
+    private Supplier<Map<String, String>> schedulePropertiesLoader;
+
+    /**
+     * Creates a new ScheduleSummary whose schedule properties are loaded on demand.
+     *
+     * @param scheduleName The schedule name
+     * @param taskDefinitionName The task definition name
+     * @param cronExpression The cron expression of the schedule's trigger
+     * @param schedulePropertiesLoader Loads the full schedule properties on first access
+     */
+    public ScheduleSummary(String scheduleName, String taskDefinitionName, String cronExpression,
+                           Supplier<Map<String, String>> schedulePropertiesLoader) {
+        this.cronExpression = cronExpression;
+        this.schedulePropertiesLoader = schedulePropertiesLoader;
+        setScheduleName(scheduleName);
+        setTaskDefinitionName(taskDefinitionName);
+    }
+
+    /**
+     * Returns the cron expression without loading the schedule properties.
+     *
+     * @return The cron expression
+     */
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    /**
+     * Returns the full schedule properties, deserializing them on first access.
+     *
+     * @return The schedule properties
+     */
+    @Override
+    public synchronized Map<String, String> getScheduleProperties() {
+        if (schedulePropertiesLoader != null) {
+            super.setScheduleProperties(schedulePropertiesLoader.get());
+            schedulePropertiesLoader = null;
+        }
+        return super.getScheduleProperties();
+    }
+
+    @Override
+    public synchronized void setScheduleProperties(Map<String, String> scheduleProperties) {
+        schedulePropertiesLoader = null;
+        super.setScheduleProperties(scheduleProperties);
+    }
+}
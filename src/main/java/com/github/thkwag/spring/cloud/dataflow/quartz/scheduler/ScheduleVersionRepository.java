@@ -0,0 +1,77 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * JDBC access to the schedule change version shared by all cluster nodes.
+ * The version is a single counter per scheduler that is incremented after every schedule mutation,
+ * so a node can detect changes made by other nodes with one primary-key read.
+ *
+ * <p>The counter is stored in the {@code <prefix>SCDF_SCHEDULE_VERSION} table.
+ *
+ * @see ScheduleInfoCache
+ */
+public class ScheduleVersionRepository {
+
+    private static final String SELECT_VERSION =
+        "SELECT VERSION FROM {0}SCDF_SCHEDULE_VERSION WHERE SCHED_NAME = ?";
+
+    private static final String INCREMENT_VERSION =
+        "UPDATE {0}SCDF_SCHEDULE_VERSION SET VERSION = VERSION + 1 WHERE SCHED_NAME = ?";
+
+    private static final String INSERT_VERSION =
+        "INSERT INTO {0}SCDF_SCHEDULE_VERSION (SCHED_NAME, VERSION) VALUES (?, 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tablePrefix;
+    private final String schedulerName;
+
+    /**
+     * Creates a new ScheduleVersionRepository.
+     *
+     * @param dataSource The datasource holding the Quartz tables
+     * @param tablePrefix The Quartz table prefix, e.g. {@code QRTZ_}
+     * @param schedulerName The Quartz scheduler name used as SCHED_NAME
+     */
+    public ScheduleVersionRepository(DataSource dataSource, String tablePrefix, String schedulerName) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tablePrefix = tablePrefix;
+        this.schedulerName = schedulerName;
+    }
+
+    /**
+     * Reads the current change version.
+     *
+     * @return The current version, 0 if no change has been recorded yet
+     */
+    public long currentVersion() {
+        List<Long> versions = jdbcTemplate.queryForList(sql(SELECT_VERSION), Long.class, schedulerName);
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    /**
+     * Increments the change version.
+     * The returned value may be higher than expected if other nodes recorded changes at the same time.
+     *
+     * @return The version after the increment
+     */
+    public long increment() {
+        if (jdbcTemplate.update(sql(INCREMENT_VERSION), schedulerName) == 0) {
+            try {
+                jdbcTemplate.update(sql(INSERT_VERSION), schedulerName);
+            } catch (DuplicateKeyException e) {
+                // Another node created the row in the meantime
+                jdbcTemplate.update(sql(INCREMENT_VERSION), schedulerName);
+            }
+        }
+        return currentVersion();
+    }
+
+    private String sql(String query) {
+        return query.replace("{0}", tablePrefix);
+    }
+}
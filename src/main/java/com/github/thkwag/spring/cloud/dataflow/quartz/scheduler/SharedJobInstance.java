@@ -0,0 +1,23 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a Quartz {@link org.quartz.Job} implementation as stateless and thread-safe,
+ * so that {@link AutowiringSpringBeanJobFactory} may create and autowire it once
+ * and reuse that instance for every fire, instead of instantiating it per fire.
+ *
+ * <p>Shared instances are not populated with job data as bean properties;
+ * they must read their data from the {@link org.quartz.JobExecutionContext}.
+ *
+ * @see AutowiringSpringBeanJobFactory#setSharedInstances(boolean)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SharedJobInstance {
+}
@@ -0,0 +1,181 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Quartz {@link ThreadPool} that runs every fire on a new virtual thread (Java 21+).
+ * Fires are mostly blocking I/O, so virtual threads remove the need to size a platform thread pool;
+ * a semaphore caps the number of concurrent fires instead, so that a large number of simultaneous
+ * triggers cannot exhaust the JDBC connection pool.
+ *
+ * <p>Virtual threads are detected at runtime. On older Java versions the pool falls back to
+ * platform threads with the same concurrency cap; use {@link #isSupported()} to select
+ * Quartz's SimpleThreadPool instead.
+ *
+ * <p>Configured through Quartz properties:
+ * <pre>{@code
+ * org.quartz.threadPool.class=com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.VirtualThreadPool
+ * org.quartz.threadPool.maxConcurrency=100
+ * }</pre>
+ *
+ * @see com.github.thkwag.spring.cloud.dataflow.quartz.autoconfigure.QuartzSchedulerAutoConfiguration
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    // How long blockForAvailableThreads waits before re-checking for shutdown
+    private static final long AVAILABILITY_WAIT_MILLIS = 500;
+
+    private final Object availability = new Object();
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+
+    private int maxConcurrency = 100;
+    private String instanceName = "QuartzScheduler";
+    private Semaphore permits;
+    private ThreadFactory threadFactory;
+    private volatile boolean shutdown;
+
+    /**
+     * Checks whether the running JVM supports virtual threads.
+     *
+     * @return true on Java 21 or later
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Sets the maximum number of concurrent fires. Defaults to 100.
+     *
+     * @param maxConcurrency The maximum number of concurrent fires
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Accepted for compatibility with SimpleThreadPool configuration and ignored;
+     * concurrency is limited by {@link #setMaxConcurrency(int)}.
+     *
+     * @param threadCount Ignored
+     */
+    public void setThreadCount(int threadCount) {
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (maxConcurrency <= 0) {
+            throw new SchedulerConfigException("Max concurrency must be > 0");
+        }
+        permits = new Semaphore(maxConcurrency);
+
+        String namePrefix = instanceName + "_Worker-";
+        threadFactory = isSupported() ? createVirtualThreadFactory(namePrefix) : null;
+        if (threadFactory == null) {
+            logger.warn("Virtual threads are not available, running fires on platform threads");
+            threadFactory = new CustomizableThreadFactory(namePrefix);
+        }
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null || shutdown) return false;
+
+        // Only the scheduler thread dispatches, after blockForAvailableThreads reported capacity
+        permits.acquireUninterruptibly();
+        Thread thread = threadFactory.newThread(() -> {
+            try {
+                runnable.run();
+            } finally {
+                runningThreads.remove(Thread.currentThread());
+                permits.release();
+                synchronized (availability) {
+                    availability.notifyAll();
+                }
+            }
+        });
+        runningThreads.add(thread);
+        thread.start();
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        synchronized (availability) {
+            while (permits.availablePermits() < 1 && !shutdown) {
+                try {
+                    availability.wait(AVAILABILITY_WAIT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        synchronized (availability) {
+            availability.notifyAll();
+        }
+        if (!waitForJobsToComplete) return;
+
+        List<Thread> threads = new ArrayList<>(runningThreads);
+        logger.debug("Waiting for {} running fires to complete", threads.size());
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    /**
+     * Creates a virtual thread factory through reflection, since the API is not available on Java 11.
+     *
+     * @return The factory or null if virtual threads cannot be created
+     */
+    private static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Failed to create virtual thread factory", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- Tables added by the scheduler.
+
+CREATE TABLE IF NOT EXISTS ${tablePrefix}SCDF_SCHEDULE_VERSION (
+    SCHED_NAME VARCHAR(120) NOT NULL,
+    VERSION BIGINT NOT NULL,
+    PRIMARY KEY (SCHED_NAME)
+);
+
+CREATE TABLE IF NOT EXISTS ${tablePrefix}SCDF_LAUNCH_BUDGET (
+    SCHED_NAME VARCHAR(120) NOT NULL,
+    BUCKET_NAME VARCHAR(80) NOT NULL,
+    WINDOW_START BIGINT NOT NULL,
+    WINDOW_COUNT INTEGER NOT NULL,
+    PRIMARY KEY (SCHED_NAME, BUCKET_NAME)
+);
+
+CREATE TABLE IF NOT EXISTS ${tablePrefix}SCDF_LAUNCH_LEASE (
+    SCHED_NAME VARCHAR(120) NOT NULL,
+    BUCKET_NAME VARCHAR(80) NOT NULL,
+    LEASE_ID VARCHAR(64) NOT NULL,
+    EXPIRES_AT BIGINT NOT NULL,
+    PRIMARY KEY (SCHED_NAME, BUCKET_NAME, LEASE_ID)
+);
+
+-- Removal of expired leases
+CREATE INDEX IF NOT EXISTS IDX_${tablePrefix}SCDF_LEASE_EXP ON ${tablePrefix}SCDF_LAUNCH_LEASE (SCHED_NAME, BUCKET_NAME, EXPIRES_AT);
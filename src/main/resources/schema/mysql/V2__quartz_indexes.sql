@@ -0,0 +1,29 @@
+-- Secondary indexes used by trigger acquisition, misfire handling and cluster recovery.
+-- Index names match the Quartz distribution, so existing indexes are kept.
+-- MySQL has no CREATE INDEX IF NOT EXISTS; existing indexes are skipped by the migrator.
+CREATE INDEX IDX_${tablePrefix}J_REQ_RECOVERY ON ${tablePrefix}JOB_DETAILS (SCHED_NAME, REQUESTS_RECOVERY);
+CREATE INDEX IDX_${tablePrefix}J_GRP ON ${tablePrefix}JOB_DETAILS (SCHED_NAME, JOB_GROUP);
+CREATE INDEX IDX_${tablePrefix}T_J ON ${tablePrefix}TRIGGERS (SCHED_NAME, JOB_NAME, JOB_GROUP);
+CREATE INDEX IDX_${tablePrefix}T_JG ON ${tablePrefix}TRIGGERS (SCHED_NAME, JOB_GROUP);
+CREATE INDEX IDX_${tablePrefix}T_C ON ${tablePrefix}TRIGGERS (SCHED_NAME, CALENDAR_NAME);
+CREATE INDEX IDX_${tablePrefix}T_G ON ${tablePrefix}TRIGGERS (SCHED_NAME, TRIGGER_GROUP);
+CREATE INDEX IDX_${tablePrefix}T_STATE ON ${tablePrefix}TRIGGERS (SCHED_NAME, TRIGGER_STATE);
+CREATE INDEX IDX_${tablePrefix}T_N_STATE ON ${tablePrefix}TRIGGERS (SCHED_NAME, TRIGGER_NAME, TRIGGER_GROUP, TRIGGER_STATE);
+CREATE INDEX IDX_${tablePrefix}T_N_G_STATE ON ${tablePrefix}TRIGGERS (SCHED_NAME, TRIGGER_GROUP, TRIGGER_STATE);
+
+-- Trigger acquisition: waiting triggers due before a time, by state and next fire time
+CREATE INDEX IDX_${tablePrefix}T_NEXT_FIRE_TIME ON ${tablePrefix}TRIGGERS (SCHED_NAME, NEXT_FIRE_TIME);
+CREATE INDEX IDX_${tablePrefix}T_NFT_ST ON ${tablePrefix}TRIGGERS (SCHED_NAME, TRIGGER_STATE, NEXT_FIRE_TIME);
+
+-- Misfire scans: misfired triggers by misfire instruction and next fire time
+CREATE INDEX IDX_${tablePrefix}T_NFT_MISFIRE ON ${tablePrefix}TRIGGERS (SCHED_NAME, MISFIRE_INSTR, NEXT_FIRE_TIME);
+CREATE INDEX IDX_${tablePrefix}T_NFT_ST_MISFIRE ON ${tablePrefix}TRIGGERS (SCHED_NAME, MISFIRE_INSTR, NEXT_FIRE_TIME, TRIGGER_STATE);
+CREATE INDEX IDX_${tablePrefix}T_NFT_ST_MISFIRE_GRP ON ${tablePrefix}TRIGGERS (SCHED_NAME, MISFIRE_INSTR, NEXT_FIRE_TIME, TRIGGER_GROUP, TRIGGER_STATE);
+
+-- Fired trigger bookkeeping and cluster recovery of failed instances
+CREATE INDEX IDX_${tablePrefix}FT_TRIG_INST_NAME ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, INSTANCE_NAME);
+CREATE INDEX IDX_${tablePrefix}FT_INST_JOB_REQ_RCVRY ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, INSTANCE_NAME, REQUESTS_RECOVERY);
+CREATE INDEX IDX_${tablePrefix}FT_J_G ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, JOB_NAME, JOB_GROUP);
+CREATE INDEX IDX_${tablePrefix}FT_JG ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, JOB_GROUP);
+CREATE INDEX IDX_${tablePrefix}FT_T_G ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, TRIGGER_NAME, TRIGGER_GROUP);
+CREATE INDEX IDX_${tablePrefix}FT_TG ON ${tablePrefix}FIRED_TRIGGERS (SCHED_NAME, TRIGGER_GROUP);
@@ -0,0 +1,10 @@
+-- Executions launched by schedules with a FORBID or REPLACE concurrency policy.
+
+CREATE TABLE IF NOT EXISTS ${tablePrefix}SCDF_SCHEDULE_EXECUTION (
+    SCHED_NAME VARCHAR(120) NOT NULL,
+    SCHEDULE_NAME VARCHAR(200) NOT NULL,
+    EXECUTION_ID BIGINT NOT NULL,
+    SCHEMA_TARGET VARCHAR(100),
+    LAUNCHED_AT BIGINT NOT NULL,
+    PRIMARY KEY (SCHED_NAME, SCHEDULE_NAME, EXECUTION_ID)
+) ENGINE=InnoDB;
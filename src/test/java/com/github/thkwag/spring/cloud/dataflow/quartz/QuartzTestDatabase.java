@@ -0,0 +1,123 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.SchemaMigrator;
+import org.springframework.cloud.deployer.spi.core.AppDefinition;
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleRequest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * In-memory H2 database with the migrated Quartz schema, and a Quartz scheduler on top of it that
+ * is never started, so tests can store and read schedules without firing them.
+ *
+ * <p>Quartz registers the datasource under the scheduler name, so only one scheduler may be open at a time.
+ */
+public final class QuartzTestDatabase implements AutoCloseable {
+
+    public static final String TABLE_PREFIX = "QRTZ_";
+    public static final String SCHEDULER_NAME = "spring-cloud-dataflow-scheduler";
+
+    private final DataSource dataSource;
+    private SchedulerFactoryBean schedulerFactoryBean;
+
+    private QuartzTestDatabase(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Creates an empty in-memory database that lives until the JVM exits.
+     *
+     * @return The database, without tables
+     */
+    public static QuartzTestDatabase empty() {
+        return new QuartzTestDatabase(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    /**
+     * Creates an in-memory database with the Quartz and scheduler tables.
+     *
+     * @return The migrated database
+     */
+    public static QuartzTestDatabase migrated() {
+        QuartzTestDatabase database = empty();
+        new SchemaMigrator(database.dataSource, DatabaseDialect.H2, TABLE_PREFIX).migrate();
+        return database;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the scheduler factory of this database, creating it on first use.
+     * The scheduler is not started.
+     *
+     * @return The initialized factory bean
+     */
+    public SchedulerFactoryBean getSchedulerFactoryBean() throws Exception {
+        if (schedulerFactoryBean == null) {
+            SchedulerFactoryBean factoryBean = new SchedulerFactoryBean();
+            factoryBean.setSchedulerName(SCHEDULER_NAME);
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setAutoStartup(false);
+            Properties quartzProperties = new Properties();
+            quartzProperties.setProperty("org.quartz.jobStore.useProperties", "true");
+            quartzProperties.setProperty("org.quartz.jobStore.driverDelegateClass", DatabaseDialect.H2.getDelegateClass());
+            quartzProperties.setProperty("org.quartz.jobStore.tablePrefix", TABLE_PREFIX);
+            quartzProperties.setProperty("org.quartz.threadPool.threadCount", "1");
+            factoryBean.setQuartzProperties(quartzProperties);
+            factoryBean.afterPropertiesSet();
+            schedulerFactoryBean = factoryBean;
+        }
+        return schedulerFactoryBean;
+    }
+
+    /**
+     * Creates a schedule request for a task definition.
+     *
+     * @param scheduleName The schedule name
+     * @param taskDefinitionName The task definition name
+     * @param cronExpression The cron expression
+     * @return The request, without further properties or arguments
+     */
+    public static ScheduleRequest scheduleRequest(String scheduleName, String taskDefinitionName, String cronExpression) {
+        return scheduleRequest(scheduleName, taskDefinitionName, cronExpression, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a schedule request for a task definition with additional deployment properties.
+     *
+     * @param scheduleName The schedule name
+     * @param taskDefinitionName The task definition name
+     * @param cronExpression The cron expression
+     * @param properties Additional deployment and scheduler properties
+     * @return The request
+     */
+    public static ScheduleRequest scheduleRequest(String scheduleName, String taskDefinitionName, String cronExpression,
+                                                  Map<String, String> properties) {
+        Map<String, String> deploymentProperties = new HashMap<>(properties);
+        deploymentProperties.put("spring.cloud.scheduler.cron.expression", cronExpression);
+        return new ScheduleRequest(new AppDefinition(taskDefinitionName, Collections.emptyMap()), deploymentProperties,
+            Collections.emptyList(), scheduleName, new ByteArrayResource(new byte[0]));
+    }
+
+    /**
+     * Shuts the scheduler down. The database itself is discarded with the JVM.
+     */
+    @Override
+    public void close() throws Exception {
+        if (schedulerFactoryBean != null) {
+            schedulerFactoryBean.destroy();
+        }
+    }
+}
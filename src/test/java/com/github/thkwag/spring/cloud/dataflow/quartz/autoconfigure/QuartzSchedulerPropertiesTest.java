@@ -0,0 +1,97 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.autoconfigure;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.BackpressurePolicy;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.MisfirePolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuartzSchedulerPropertiesTest {
+
+    private static final String PREFIX = "spring.cloud.dataflow.scheduler.quartz";
+
+    @Test
+    void bindsTheNestedGroups() {
+        QuartzSchedulerProperties properties = bind(
+            "database-dialect", "postgresql",
+            "shared-job-instances", "false",
+            "cache.max-size", "500",
+            "launch.backpressure", "shed",
+            "launch.reserved.threads", "2",
+            "launch.rate-limit.enabled", "true",
+            "misfire.policy", "catch-up",
+            "forecast.gauge-refresh-interval", "1m");
+
+        assertThat(properties.getDatabaseDialect()).isEqualTo(DatabaseDialect.POSTGRESQL);
+        assertThat(properties.isSharedJobInstances()).isFalse();
+        assertThat(properties.getCache().getMaxSize()).isEqualTo(500);
+        assertThat(properties.getLaunch().getBackpressure()).isEqualTo(BackpressurePolicy.SHED);
+        assertThat(properties.getLaunch().getReserved().getThreads()).isEqualTo(2);
+        assertThat(properties.getLaunch().getRateLimit().isEnabled()).isTrue();
+        assertThat(properties.getMisfire().getPolicy()).isEqualTo(MisfirePolicy.CATCH_UP);
+        assertThat(properties.getForecast().getGaugeRefreshInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void sizesTheDedicatedPoolForTheFireConcurrency() {
+        QuartzSchedulerProperties properties = bind(
+            "size", "medium",
+            "datasource.url", "jdbc:postgresql://localhost/quartz");
+
+        assertThat(properties.getDatasource().isDedicated()).isTrue();
+        assertThat(properties.getDatasource().getMaximumPoolSize()).isEqualTo(29);
+    }
+
+    @Test
+    void rejectsADedicatedPoolSmallerThanTheFireConcurrency() {
+        assertThatThrownBy(() -> bind(
+            "thread-count", "20",
+            "datasource.url", "jdbc:postgresql://localhost/quartz",
+            "datasource.maximum-pool-size", "10"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at least 24");
+    }
+
+    @Test
+    void rejectsALeaseTimeoutNotLongerThanTheLaunchTimeout() {
+        assertThatThrownBy(() -> bind(
+            "launch.rate-limit.enabled", "true",
+            "launch.rate-limit.lease-timeout", "5m"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("lease timeout");
+
+        // Without a launch timeout, any positive lease timeout is accepted
+        bind("launch.rate-limit.enabled", "true",
+            "launch.rate-limit.lease-timeout", "5m",
+            "launch.timeout.enabled", "false");
+    }
+
+    @Test
+    void rejectsOutOfRangeValues() {
+        assertThatThrownBy(() -> bind("batch-size", "0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bind("launch.queue-capacity", "0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bind("launch.timeout.check-interval", "10m"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bind("misfire.catch-up-limit", "0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bind("forecast.peak-threshold", "0")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuartzSchedulerProperties bind(String... keysAndValues) {
+        Map<String, String> source = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            source.put(PREFIX + "." + keysAndValues[i], keysAndValues[i + 1]);
+        }
+        QuartzSchedulerProperties properties = new Binder(new MapConfigurationPropertySource(source))
+            .bindOrCreate(PREFIX, QuartzSchedulerProperties.class);
+        properties.afterPropertiesSet();
+        return properties;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.forecast;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduleRepository;
+import com.github.thkwag.spring.cloud.dataflow.quartz.scheduler.QuartzScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.SCHEDULER_NAME;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.TABLE_PREFIX;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.scheduleRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleForecasterTest {
+
+    private QuartzTestDatabase database;
+    private QuartzScheduler scheduler;
+    private ScheduleForecaster forecaster;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = QuartzTestDatabase.migrated();
+        QuartzScheduleRepository repository = new QuartzScheduleRepository(database.getDataSource(), TABLE_PREFIX,
+            SCHEDULER_NAME, DatabaseDialect.H2);
+        scheduler = new QuartzScheduler(database.getSchedulerFactoryBean(), repository);
+        meterRegistry = new SimpleMeterRegistry();
+        // A long refresh interval leaves the gauge to the explicit refreshes of the tests
+        forecaster = new ScheduleForecaster(repository, 2, Duration.ofHours(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        forecaster.shutdown();
+        database.close();
+    }
+
+    @Test
+    void reportsSchedulesFiringTogetherAsPeakAndCollision() {
+        for (int i = 0; i < 3; i++) {
+            scheduler.schedule(scheduleRequest("every-minute-" + i, "etl", "0 * * * * ?"));
+        }
+        scheduler.schedule(scheduleRequest("hourly", "report", "0 0 * * * ?"));
+
+        ScheduleForecast forecast = forecaster.forecast(Duration.ofMinutes(10));
+
+        assertThat(forecast.getTotalFires()).isBetween(30L, 31L);
+        assertThat(forecast.getPeaks()).hasSize(10);
+        assertThat(forecast.getPeaks().get(0).getCronExpressions()).contains("0 * * * * ?");
+        assertThat(forecast.getCollisions()).hasSize(1);
+        ScheduleForecast.Collision collision = forecast.getCollisions().get(0);
+        assertThat(collision.getScheduleCount()).isEqualTo(3);
+        assertThat(collision.getScheduleNames()).containsExactly("every-minute-0", "every-minute-1", "every-minute-2");
+        assertThat(collision.getSuggestedJitter()).isEqualTo("2s");
+    }
+
+    @Test
+    void spreadsJitteredSchedulesOverTheirOffsets() {
+        for (int i = 0; i < 3; i++) {
+            scheduler.schedule(scheduleRequest("every-minute-" + i, "etl", "0 * * * * ?",
+                Map.of("spring.cloud.scheduler.cron.jitter", "30s")));
+        }
+
+        ScheduleForecast forecast = forecaster.forecast(Duration.ofMinutes(10));
+
+        // Each schedule has its own offset, so no two of them share a fire group
+        assertThat(forecast.getCollisions()).isEmpty();
+        assertThat(forecast.getTotalFires()).isBetween(27L, 30L);
+    }
+
+    @Test
+    void publishesTheExpectedFiresOfTheRefresh() {
+        scheduler.schedule(scheduleRequest("every-minute", "etl", "0 * * * * ?"));
+
+        forecaster.refreshExpectedFires();
+
+        assertThat(forecaster.expectedFires()).isEqualTo(5);
+        assertThat(meterRegistry.get("quartz.schedules.fires.expected").gauge().value()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.jdbc;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.TABLE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaMigratorTest {
+
+    @Test
+    void appliesAllScriptsToAnEmptyDatabase() {
+        QuartzTestDatabase database = QuartzTestDatabase.empty();
+
+        int applied = new SchemaMigrator(database.getDataSource(), DatabaseDialect.H2, TABLE_PREFIX).migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database.getDataSource());
+        assertThat(applied).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForList("SELECT VERSION FROM QRTZ_SCDF_SCHEMA_VERSION ORDER BY VERSION", Integer.class))
+            .containsExactly(1, 2, 3, 4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM QRTZ_JOB_DETAILS", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM QRTZ_SCDF_SCHEDULE_EXECUTION", Integer.class)).isZero();
+    }
+
+    @Test
+    void appliesNothingToAnUpToDateDatabase() {
+        QuartzTestDatabase database = QuartzTestDatabase.migrated();
+
+        int applied = new SchemaMigrator(database.getDataSource(), DatabaseDialect.H2, TABLE_PREFIX).migrate();
+
+        assertThat(applied).isZero();
+    }
+
+    @Test
+    void keepsTablesCreatedByTheStockQuartzScripts() {
+        QuartzTestDatabase database = QuartzTestDatabase.empty();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database.getDataSource());
+        jdbcTemplate.execute("CREATE TABLE QRTZ_LOCKS (SCHED_NAME VARCHAR(120) NOT NULL, "
+            + "LOCK_NAME VARCHAR(40) NOT NULL, PRIMARY KEY (SCHED_NAME, LOCK_NAME))");
+        jdbcTemplate.update("INSERT INTO QRTZ_LOCKS VALUES ('scheduler', 'TRIGGER_ACCESS')");
+
+        int applied = new SchemaMigrator(database.getDataSource(), DatabaseDialect.H2, TABLE_PREFIX).migrate();
+
+        assertThat(applied).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM QRTZ_LOCKS", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMigrationsApplyEachScriptOnce() throws Exception {
+        QuartzTestDatabase database = QuartzTestDatabase.empty();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() ->
+                new SchemaMigrator(database.getDataSource(), DatabaseDialect.H2, TABLE_PREFIX).migrate());
+            Future<Integer> second = executor.submit(() ->
+                new SchemaMigrator(database.getDataSource(), DatabaseDialect.H2, TABLE_PREFIX).migrate());
+
+            assertThat(first.get() + second.get()).isEqualTo(4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shipsTheScriptsOfEveryDatabase() {
+        for (DatabaseDialect dialect : DatabaseDialect.values()) {
+            String directory = "schema/" + dialect.getSchemaDirectory() + "/";
+            assertThat(new ClassPathResource(directory + "V1__quartz_tables.sql").exists()).as(dialect.name()).isTrue();
+            assertThat(new ClassPathResource(directory + "V4__schedule_executions.sql").exists()).as(dialect.name()).isTrue();
+        }
+    }
+}
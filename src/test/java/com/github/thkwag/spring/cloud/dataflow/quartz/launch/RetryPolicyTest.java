@@ -0,0 +1,57 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.launch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    @Test
+    void allowsRetriesUpToTheMaximumAttempts() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(10), 2);
+
+        assertThat(policy.canRetry(1)).isTrue();
+        assertThat(policy.canRetry(2)).isTrue();
+        assertThat(policy.canRetry(3)).isFalse();
+        assertThat(RetryPolicy.NONE.canRetry(1)).isFalse();
+    }
+
+    @Test
+    void growsTheBackoffExponentiallyWithinHalfAndFullBackoff() {
+        RetryPolicy policy = new RetryPolicy(5, Duration.ofSeconds(1), Duration.ofMinutes(1), 2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextBackoffMillis(1)).isBetween(500L, 1000L);
+            assertThat(policy.nextBackoffMillis(3)).isBetween(2000L, 4000L);
+        }
+    }
+
+    @Test
+    void capsTheBackoffAtTheMaximum() {
+        RetryPolicy policy = new RetryPolicy(20, Duration.ofSeconds(1), Duration.ofSeconds(5), 3);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextBackoffMillis(10)).isBetween(2500L, 5000L);
+        }
+    }
+
+    @Test
+    void raisesAMaximumBackoffBelowTheInitialBackoff() {
+        RetryPolicy policy = new RetryPolicy(2, Duration.ofSeconds(10), Duration.ofSeconds(1), 1);
+
+        assertThat(policy.getMaxBackoffMillis()).isEqualTo(10_000);
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThatThrownBy(() -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(2, Duration.ofSeconds(-1), Duration.ZERO, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(2, Duration.ZERO, Duration.ZERO, 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutowiringSpringBeanJobFactoryTest {
+
+    private static final int FIRES_PER_JOB = 5;
+
+    private GenericApplicationContext context;
+    private AutowiringSpringBeanJobFactory jobFactory;
+
+    @BeforeEach
+    void setUp() {
+        context = new GenericApplicationContext();
+        context.registerBean(FireTracker.class, FireTracker::new);
+        context.refresh();
+        jobFactory = new AutowiringSpringBeanJobFactory(context.getAutowireCapableBeanFactory());
+        jobFactory.setApplicationContext(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void reusesOneAutowiredInstanceOfSharedJobs() throws Exception {
+        Job first = jobFactory.newJob(bundle("first"), null);
+        Job second = jobFactory.newJob(bundle("second"), null);
+
+        assertThat(first).isSameAs(second);
+        assertThat(((SerialJob) first).tracker).isSameAs(context.getBean(FireTracker.class));
+    }
+
+    @Test
+    void createsAnAutowiredInstancePerFireWhenSharingIsDisabled() throws Exception {
+        jobFactory.setSharedInstances(false);
+
+        Job first = jobFactory.newJob(bundle("first"), null);
+        Job second = jobFactory.newJob(bundle("first"), null);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(((SerialJob) first).tracker).isSameAs(context.getBean(FireTracker.class));
+        assertThat(((SerialJob) second).tracker).isSameAs(context.getBean(FireTracker.class));
+    }
+
+    @Test
+    void keepsFiresOfEachJobDetailSerializedWithASharedInstance() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "job-factory-test");
+        properties.setProperty("org.quartz.threadPool.threadCount", "4");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+        scheduler.setJobFactory(jobFactory);
+        FireTracker tracker = context.getBean(FireTracker.class);
+        try {
+            for (String name : new String[] {"first", "second"}) {
+                scheduler.scheduleJob(jobDetail(name), repeatingTrigger(name));
+            }
+            scheduler.start();
+
+            assertThat(tracker.fires.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            scheduler.shutdown(true);
+        }
+
+        // Both JobDetails ran on the same instance at the same time, each one never overlapping itself
+        assertThat(tracker.maxRunning).isGreaterThanOrEqualTo(2);
+        assertThat(tracker.maxRunningPerJob.values()).allSatisfy(max -> assertThat(max.get()).isEqualTo(1));
+        assertThat(tracker.instances).hasSize(1);
+    }
+
+    private static JobDetail jobDetail(String name) {
+        return JobBuilder.newJob(SerialJob.class).withIdentity(name, "test").build();
+    }
+
+    private static Trigger repeatingTrigger(String name) {
+        // Fires far more often than the job completes, so fires of one JobDetail queue up
+        return TriggerBuilder.newTrigger()
+            .withIdentity(name, "test")
+            .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                .withIntervalInMilliseconds(10)
+                .withRepeatCount(FIRES_PER_JOB - 1))
+            .startNow()
+            .build();
+    }
+
+    private static TriggerFiredBundle bundle(String name) {
+        OperableTrigger trigger = (OperableTrigger) repeatingTrigger(name);
+        Date now = new Date();
+        return new TriggerFiredBundle(jobDetail(name), trigger, null, false, now, now, null, null);
+    }
+
+    static class FireTracker {
+
+        final CountDownLatch fires = new CountDownLatch(2 * FIRES_PER_JOB);
+        final Map<JobKey, AtomicInteger> runningPerJob = new ConcurrentHashMap<>();
+        final Map<JobKey, AtomicInteger> maxRunningPerJob = new ConcurrentHashMap<>();
+        final Map<Object, Boolean> instances = new ConcurrentHashMap<>();
+        final AtomicInteger running = new AtomicInteger();
+        volatile int maxRunning;
+
+        synchronized void started(JobKey key, Object instance) {
+            instances.put(instance, true);
+            int runningOfJob = runningPerJob.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            maxRunningPerJob.computeIfAbsent(key, k -> new AtomicInteger()).accumulateAndGet(runningOfJob, Math::max);
+            maxRunning = Math.max(maxRunning, running.incrementAndGet());
+        }
+
+        synchronized void finished(JobKey key) {
+            runningPerJob.get(key).decrementAndGet();
+            running.decrementAndGet();
+            fires.countDown();
+        }
+    }
+
+    @SharedJobInstance
+    @DisallowConcurrentExecution
+    static class SerialJob implements Job {
+
+        private final FireTracker tracker;
+
+        SerialJob(FireTracker tracker) {
+            this.tracker = tracker;
+        }
+
+        @Override
+        public void execute(JobExecutionContext context) {
+            JobKey key = context.getJobDetail().getKey();
+            tracker.started(key, this);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                tracker.finished(key);
+            }
+        }
+    }
+}
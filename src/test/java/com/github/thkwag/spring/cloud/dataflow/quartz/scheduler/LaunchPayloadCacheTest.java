@@ -0,0 +1,90 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.launch.ConcurrencyPolicy;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+import org.quartz.JobKey;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LaunchPayloadCacheTest {
+
+    private static final String PAYLOAD = "{\"definition\":{\"name\":\"etl\"},"
+        + "\"deploymentProperties\":{\"app.etl.mode\":\"full\"},"
+        + "\"commandlineArguments\":[\"--date=today\"],"
+        + "\"concurrencyPolicy\":\"FORBID\","
+        + "\"retry\":{\"maxAttempts\":3,\"backoffMillis\":1000,\"maxBackoffMillis\":8000,\"multiplier\":2.0},"
+        + "\"jitterMillis\":5000}";
+
+    private final JobKey jobKey = new JobKey("nightly", "etl");
+
+    @Test
+    void decodesThePayload() throws Exception {
+        LaunchPayload payload = new LaunchPayloadCache(10).get(jobKey, jobData(PAYLOAD, "v1"));
+
+        assertThat(payload.getTaskName()).isEqualTo("etl");
+        assertThat(payload.getProperties()).containsOnly(Map.entry("app.etl.mode", "full"));
+        assertThat(payload.getArguments()).containsExactly("--date=today");
+        assertThat(payload.getJitterMillis()).isEqualTo(5000);
+        assertThat(payload.getConcurrencyPolicy()).isEqualTo(ConcurrencyPolicy.FORBID);
+        assertThat(payload.getRetryPolicy().getMaxAttempts()).isEqualTo(3);
+        assertThat(payload.getRetryPolicy().getMaxBackoffMillis()).isEqualTo(8000);
+    }
+
+    @Test
+    void decodesMinimalPayloadsWithDefaults() throws Exception {
+        LaunchPayload payload = new LaunchPayloadCache(10).get(jobKey, jobData("{\"definition\":{\"name\":\"etl\"}}", null));
+
+        assertThat(payload.getProperties()).isEmpty();
+        assertThat(payload.getArguments()).isEmpty();
+        assertThat(payload.getConcurrencyPolicy()).isEqualTo(ConcurrencyPolicy.ALLOW);
+        assertThat(payload.getRetryPolicy().getMaxAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void reusesThePayloadWhileTheHashIsUnchanged() throws Exception {
+        LaunchPayloadCache cache = new LaunchPayloadCache(10);
+        LaunchPayload first = cache.get(jobKey, jobData(PAYLOAD, "v1"));
+
+        assertThat(cache.get(jobKey, jobData(PAYLOAD, "v1"))).isSameAs(first);
+        assertThat(cache.get(jobKey, jobData(PAYLOAD.replace("full", "delta"), "v2")).getProperties())
+            .containsEntry("app.etl.mode", "delta");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void validatesPayloadsWithoutHashAgainstTheJson() throws Exception {
+        LaunchPayloadCache cache = new LaunchPayloadCache(10);
+        LaunchPayload first = cache.get(jobKey, jobData(PAYLOAD, null));
+
+        assertThat(cache.get(jobKey, jobData(PAYLOAD, null))).isSameAs(first);
+        assertThat(cache.get(jobKey, jobData(PAYLOAD.replace("full", "delta"), null))).isNotSameAs(first);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedPayload() throws Exception {
+        LaunchPayloadCache cache = new LaunchPayloadCache(2);
+        JobKey hourly = new JobKey("hourly", "etl");
+        JobKey weekly = new JobKey("weekly", "etl");
+        LaunchPayload nightlyPayload = cache.get(jobKey, jobData(PAYLOAD, "v1"));
+        LaunchPayload hourlyPayload = cache.get(hourly, jobData(PAYLOAD, "v1"));
+
+        cache.get(jobKey, jobData(PAYLOAD, "v1"));
+        cache.get(weekly, jobData(PAYLOAD, "v1"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(jobKey, jobData(PAYLOAD, "v1"))).isSameAs(nightlyPayload);
+        assertThat(cache.get(hourly, jobData(PAYLOAD, "v1"))).isNotSameAs(hourlyPayload);
+    }
+
+    private static JobDataMap jobData(String json, String hash) {
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put("properties", json);
+        if (hash != null) {
+            jobDataMap.put(QuartzScheduler.PAYLOAD_HASH_KEY, hash);
+        }
+        return jobDataMap;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuartzExecutionJobTest {
+
+    // Fires at the top of every hour
+    private static final String HOURLY = "0 0 * * * ?";
+
+    @Test
+    void countsNoMissedFiresForARegularFire() {
+        JobExecutionContext context = context(at(1, 0), at(2, 0));
+
+        assertThat(QuartzExecutionJob.countMissedFires(context, 10)).isZero();
+    }
+
+    @Test
+    void countsTheFiresBetweenThePreviousAndTheRecoveredFire() {
+        // Fires at 2:00, 3:00 and 4:00 were missed and the trigger was recovered at 4:30
+        JobExecutionContext context = context(at(1, 0), at(4, 30));
+
+        assertThat(QuartzExecutionJob.countMissedFires(context, 10)).isEqualTo(3);
+    }
+
+    @Test
+    void countsAtMostTheLimit() {
+        JobExecutionContext context = context(at(1, 0), at(9, 30));
+
+        assertThat(QuartzExecutionJob.countMissedFires(context, 2)).isEqualTo(2);
+    }
+
+    @Test
+    void countsNoMissedFiresForTheFirstFire() {
+        JobExecutionContext context = context(null, at(4, 30));
+
+        assertThat(QuartzExecutionJob.countMissedFires(context, 10)).isZero();
+    }
+
+    private static JobExecutionContext context(Date previousFireTime, Date scheduledFireTime) {
+        JobDetail jobDetail = JobBuilder.newJob(QuartzExecutionJob.class).withIdentity("nightly", "etl").build();
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+            .withIdentity("nightly", "etl")
+            .withSchedule(CronScheduleBuilder.cronSchedule(HOURLY))
+            .startAt(at(0, 0))
+            .build();
+        TriggerFiredBundle bundle = new TriggerFiredBundle(jobDetail, trigger, null, false, scheduledFireTime,
+            scheduledFireTime, previousFireTime, null);
+        return new JobExecutionContextImpl(null, bundle, null);
+    }
+
+    private static Date at(int hour, int minute) {
+        return Date.from(LocalDateTime.of(2024, 1, 1, hour, minute).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
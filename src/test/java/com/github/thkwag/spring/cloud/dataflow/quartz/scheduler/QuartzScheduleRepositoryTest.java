@@ -0,0 +1,143 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.TriggerBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.SCHEDULER_NAME;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.TABLE_PREFIX;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.scheduleRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+class QuartzScheduleRepositoryTest {
+
+    private QuartzTestDatabase database;
+    private QuartzScheduleRepository repository;
+    private QuartzScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = QuartzTestDatabase.migrated();
+        repository = new QuartzScheduleRepository(database.getDataSource(), TABLE_PREFIX, SCHEDULER_NAME,
+            DatabaseDialect.H2);
+        scheduler = new QuartzScheduler(database.getSchedulerFactoryBean(), repository);
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+        scheduler.schedule(scheduleRequest("hourly", "etl", "0 0 * * * ?"));
+        scheduler.schedule(scheduleRequest("cleanup", "janitor", "0 30 3 * * ?"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Test
+    void findsAllSchedulesOrderedByName() {
+        List<ScheduleRecord> records = repository.findAll();
+
+        assertThat(records).extracting(ScheduleRecord::getScheduleName).containsExactly("cleanup", "hourly", "nightly");
+        ScheduleRecord nightly = records.get(2);
+        assertThat(nightly.getGroupName()).isEqualTo("etl");
+        assertThat(nightly.getCronExpression()).isEqualTo("0 0 2 * * ?");
+        assertThat(nightly.getProperties()).contains("\"name\":\"etl\"");
+    }
+
+    @Test
+    void findsSchedulesOfOneGroup() {
+        assertThat(repository.findByGroup("etl")).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("hourly", "nightly");
+        assertThat(repository.findByGroup("unknown")).isEmpty();
+    }
+
+    @Test
+    void findsPagesAfterTheLastScheduleName() {
+        assertThat(repository.findPage(null, null, null, 2)).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("cleanup", "hourly");
+        assertThat(repository.findPage(null, "hourly", "etl", 2)).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("nightly");
+        assertThat(repository.findPage("etl", "hourly", null, 2)).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("nightly");
+    }
+
+    @Test
+    void pagesThroughSchedulesOfTheSameNameInDifferentGroups() throws Exception {
+        Scheduler quartz = database.getSchedulerFactoryBean().getObject();
+        JobDetail job = quartz.getJobDetail(new JobKey("hourly", "etl"));
+        quartz.scheduleJob(job.getJobBuilder().withIdentity("hourly", "billing").build(),
+            Collections.singleton(cronTrigger("hourly", "billing")), true);
+
+        List<ScheduleRecord> firstPage = repository.findPage(null, null, null, 2);
+        ScheduleRecord last = firstPage.get(1);
+        List<ScheduleRecord> secondPage = repository.findPage(null, last.getScheduleName(), last.getGroupName(), 2);
+
+        assertThat(firstPage).extracting(ScheduleRecord::getScheduleName, ScheduleRecord::getGroupName)
+            .containsExactly(tuple("cleanup", "janitor"), tuple("hourly", "billing"));
+        assertThat(secondPage).extracting(ScheduleRecord::getScheduleName, ScheduleRecord::getGroupName)
+            .containsExactly(tuple("hourly", "etl"), tuple("nightly", "etl"));
+    }
+
+    @Test
+    void readsOneRowPerScheduleWithAdditionalTriggers() throws Exception {
+        Scheduler quartz = database.getSchedulerFactoryBean().getObject();
+        quartz.scheduleJob(cronTrigger("hourly-extra", "etl").getTriggerBuilder().forJob("hourly", "etl").build());
+        for (int i = 0; i < 3; i++) {
+            quartz.scheduleJob(TriggerBuilder.newTrigger()
+                .withIdentity("hourly-retry-" + i, "etl")
+                .forJob("hourly", "etl")
+                .startAt(new Date(System.currentTimeMillis() + 60_000))
+                .build());
+        }
+
+        // A full page stays full: extra trigger rows neither duplicate nor displace schedules
+        assertThat(repository.findPage(null, null, null, 3)).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("cleanup", "hourly", "nightly");
+        assertThat(repository.findByGroup("etl")).extracting(ScheduleRecord::getScheduleName)
+            .containsExactly("hourly", "nightly");
+        List<ScheduleRecord> streamed = new ArrayList<>();
+        repository.stream("etl", streamed::add);
+        assertThat(streamed).hasSize(2);
+    }
+
+    @Test
+    void streamsTheSameSchedulesAsFindAll() {
+        List<ScheduleRecord> streamed = new ArrayList<>();
+        repository.stream(null, streamed::add);
+
+        assertThat(streamed).extracting(ScheduleRecord::getScheduleName)
+            .containsExactlyElementsOf(repository.findAll().stream()
+                .map(ScheduleRecord::getScheduleName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void findsJobGroupsByScheduleName() {
+        assertThat(repository.findJobGroup("cleanup")).isEqualTo("janitor");
+        assertThat(repository.findJobGroup("unknown")).isNull();
+        assertThat(repository.findJobGroups(Arrays.asList("nightly", "cleanup", "unknown")))
+            .containsOnly(entry("nightly", "etl"), entry("cleanup", "janitor"));
+    }
+
+    private static CronTrigger cronTrigger(String name, String group) {
+        return TriggerBuilder.newTrigger()
+            .withIdentity(name, group)
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 0 * * * ?"))
+            .build();
+    }
+}
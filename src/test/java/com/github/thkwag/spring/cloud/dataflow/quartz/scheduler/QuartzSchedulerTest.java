@@ -0,0 +1,260 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase;
+import com.github.thkwag.spring.cloud.dataflow.quartz.jdbc.DatabaseDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleRequest;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.SCHEDULER_NAME;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.TABLE_PREFIX;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.scheduleRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuartzSchedulerTest {
+
+    private static final String CRON_KEY = "spring.cloud.scheduler.cron.expression";
+
+    private QuartzTestDatabase database;
+    private Scheduler quartz;
+    private QuartzScheduler scheduler;
+    private final AtomicInteger writes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = QuartzTestDatabase.migrated();
+        quartz = database.getSchedulerFactoryBean().getObject();
+        quartz.getListenerManager().addSchedulerListener(new SchedulerListenerSupport() {
+            @Override
+            public void jobAdded(JobDetail jobDetail) {
+                writes.incrementAndGet();
+            }
+        });
+        scheduler = new QuartzScheduler(database.getSchedulerFactoryBean(), new QuartzScheduleRepository(
+            database.getDataSource(), TABLE_PREFIX, SCHEDULER_NAME, DatabaseDialect.H2));
+        scheduler.setTransactionManager(new DataSourceTransactionManager(database.getDataSource()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Test
+    void keepsShortGroupNames() {
+        assertThat(QuartzScheduler.groupName("etl")).isEqualTo("etl");
+    }
+
+    @Test
+    void truncatesLongGroupNamesWithAHashSuffix() {
+        String prefix = "a".repeat(200);
+        String first = QuartzScheduler.groupName(prefix + "-first");
+        String second = QuartzScheduler.groupName(prefix + "-second");
+
+        assertThat(first).hasSize(190).startsWith("a".repeat(100));
+        assertThat(second).hasSize(190);
+        assertThat(first).isNotEqualTo(second);
+        assertThat(QuartzScheduler.groupName(prefix + "-first")).isEqualTo(first);
+    }
+
+    @Test
+    void storesTheScheduleInTheGroupOfItsTaskDefinition() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+
+        CronTrigger trigger = (CronTrigger) quartz.getTrigger(new TriggerKey("nightly", "etl"));
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isTrue();
+        assertThat(trigger.getCronExpression()).isEqualTo("0 0 2 * * ?");
+
+        List<ScheduleInfo> schedules = scheduler.list("etl");
+        assertThat(schedules).extracting(ScheduleInfo::getScheduleName).containsExactly("nightly");
+        assertThat(schedules.get(0).getScheduleProperties()).containsEntry(CRON_KEY, "0 0 2 * * ?");
+    }
+
+    @Test
+    void rejectsRequestsWithoutCronExpression() {
+        ScheduleRequest request = scheduleRequest("nightly", "etl", " ");
+
+        assertThatThrownBy(() -> scheduler.schedule(request)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void keepsTheStoredScheduleForAnIdenticalRequest() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?", Map.of("app.etl.mode", "full")));
+        String hash = payloadHash("nightly", "etl");
+
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?", Map.of("app.etl.mode", "full")));
+
+        assertThat(writes).hasValue(1);
+        assertThat(payloadHash("nightly", "etl")).isEqualTo(hash);
+    }
+
+    @Test
+    void keepsThePayloadHashForACronOnlyChange() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+        String hash = payloadHash("nightly", "etl");
+
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 4 * * ?"));
+
+        CronTrigger trigger = (CronTrigger) quartz.getTrigger(new TriggerKey("nightly", "etl"));
+        assertThat(trigger.getCronExpression()).isEqualTo("0 0 4 * * ?");
+        assertThat(payloadHash("nightly", "etl")).isEqualTo(hash);
+        // The job data is rewritten with the trigger, so it never records a stale expression
+        assertThat(quartz.getJobDetail(new JobKey("nightly", "etl")).getJobDataMap().getString("properties"))
+            .contains("\"cronExpression\":\"0 0 4 * * ?\"");
+    }
+
+    @Test
+    void changesThePayloadHashForAPropertyChange() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?", Map.of("app.etl.mode", "full")));
+        String hash = payloadHash("nightly", "etl");
+
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?", Map.of("app.etl.mode", "delta")));
+
+        assertThat(payloadHash("nightly", "etl")).isNotEqualTo(hash);
+        assertThat(writes).hasValue(2);
+    }
+
+    @Test
+    void movesAScheduleToTheGroupOfItsNewTaskDefinition() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+
+        scheduler.schedule(scheduleRequest("nightly", "report", "0 0 2 * * ?"));
+
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isFalse();
+        assertThat(quartz.checkExists(new JobKey("nightly", "report"))).isTrue();
+        assertThat(scheduler.list()).extracting(ScheduleInfo::getTaskDefinitionName).containsExactly("report");
+    }
+
+    @Test
+    void keepsTheScheduleInItsOldGroupWhenTheMoveFails() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+
+        // A trigger that never fires is rejected after the old job has been deleted in the same transaction
+        assertThatThrownBy(() -> scheduler.schedule(scheduleRequest("nightly", "report", "0 0 0 1 1 ? 2000")))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isTrue();
+        assertThat(quartz.checkExists(new JobKey("nightly", "report"))).isFalse();
+    }
+
+    @Test
+    void movesSchedulesInBatches() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+
+        BatchScheduleResult result = scheduler.scheduleAll(Arrays.asList(
+            scheduleRequest("nightly", "report", "0 0 2 * * ?"),
+            scheduleRequest("hourly", "report", "0 0 * * * ?")));
+
+        assertThat(result.getSucceeded()).containsExactlyInAnyOrder("nightly", "hourly");
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isFalse();
+        assertThat(scheduler.list("report")).extracting(ScheduleInfo::getScheduleName).containsExactly("hourly", "nightly");
+    }
+
+    @Test
+    void migratesSchedulesFromTheDefaultGroupWithoutResettingTheirTriggers() throws Exception {
+        Date startTime = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+        storeInDefaultGroup("nightly", "{\"definition\":{\"name\":\"etl\"}}", startTime);
+        Date nextFireTime = quartz.getTrigger(new TriggerKey("nightly")).getNextFireTime();
+
+        assertThat(scheduler.migrateDefaultGroup()).isEqualTo(1);
+
+        Trigger trigger = quartz.getTrigger(new TriggerKey("nightly", "etl"));
+        assertThat(quartz.checkExists(new JobKey("nightly"))).isFalse();
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isTrue();
+        // The missed fires before the migration are not fired again
+        assertThat(trigger.getNextFireTime()).isEqualTo(nextFireTime);
+        assertThat(scheduler.migrateDefaultGroup()).isZero();
+    }
+
+    @Test
+    void leavesSchedulesThatCannotBeMigratedInTheDefaultGroup() throws Exception {
+        storeInDefaultGroup("broken", "not json", new Date());
+        storeInDefaultGroup("nightly", "{\"definition\":{\"name\":\"etl\"}}", new Date());
+
+        assertThat(scheduler.migrateDefaultGroup()).isEqualTo(1);
+
+        assertThat(quartz.checkExists(new JobKey("broken"))).isTrue();
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isTrue();
+    }
+
+    @Test
+    void unschedulesByScheduleName() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?"));
+
+        scheduler.unschedule("nightly");
+
+        assertThat(quartz.checkExists(new JobKey("nightly", "etl"))).isFalse();
+        assertThat(scheduler.list()).isEmpty();
+    }
+
+    @Test
+    void schedulesAndUnschedulesInBatches() {
+        scheduler.setBatchSize(2);
+
+        BatchScheduleResult scheduled = scheduler.scheduleAll(Arrays.asList(
+            scheduleRequest("a", "etl", "0 0 1 * * ?"),
+            scheduleRequest("b", "etl", "0 0 2 * * ?"),
+            scheduleRequest("c", "report", "0 0 3 * * ?"),
+            scheduleRequest("d", "report", " ")));
+
+        assertThat(scheduled.getSucceeded()).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(scheduled.getFailures()).containsOnlyKeys("d");
+        assertThat(scheduler.list()).extracting(ScheduleInfo::getScheduleName).containsExactly("a", "b", "c");
+
+        BatchScheduleResult unscheduled = scheduler.unscheduleAll(Arrays.asList("a", "c", "unknown"));
+
+        assertThat(unscheduled.getSucceeded()).containsExactlyInAnyOrder("a", "c");
+        assertThat(unscheduled.getFailures()).containsOnlyKeys("unknown");
+        assertThat(scheduler.list()).extracting(ScheduleInfo::getScheduleName).containsExactly("b");
+    }
+
+    @Test
+    void storesSchedulerPropertiesWithTheTrigger() throws Exception {
+        scheduler.schedule(scheduleRequest("nightly", "etl", "0 0 2 * * ?", Map.of(
+            "spring.cloud.scheduler.priority", "8",
+            "spring.cloud.scheduler.misfire-policy", "catch-up")));
+
+        Trigger trigger = quartz.getTrigger(new TriggerKey("nightly", "etl"));
+        assertThat(trigger.getPriority()).isEqualTo(8);
+        assertThat(trigger.getJobDataMap().getString(QuartzScheduler.MISFIRE_POLICY_KEY))
+            .isEqualTo(MisfirePolicy.CATCH_UP.name());
+    }
+
+    private String payloadHash(String scheduleName, String group) throws Exception {
+        return quartz.getJobDetail(new JobKey(scheduleName, group)).getJobDataMap()
+            .getString(QuartzScheduler.PAYLOAD_HASH_KEY);
+    }
+
+    private void storeInDefaultGroup(String scheduleName, String properties, Date startTime) throws Exception {
+        JobDetail jobDetail = JobBuilder.newJob(QuartzExecutionJob.class)
+            .withIdentity(scheduleName)
+            .usingJobData("properties", properties)
+            .build();
+        quartz.scheduleJob(jobDetail, TriggerBuilder.newTrigger()
+            .withIdentity(scheduleName)
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 0 * * * ?"))
+            .startAt(startTime)
+            .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.thkwag.spring.cloud.dataflow.quartz.scheduler;
+
+import com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.deployer.spi.scheduler.ScheduleInfo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.SCHEDULER_NAME;
+import static com.github.thkwag.spring.cloud.dataflow.quartz.QuartzTestDatabase.TABLE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleInfoCacheTest {
+
+    private ScheduleVersionRepository versionRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger groupLoads = new AtomicInteger();
+    private final List<ScheduleInfo> stored = new ArrayList<>();
+    private final Function<String, List<ScheduleInfo>> loader = taskDefinitionName -> {
+        if (taskDefinitionName == null) {
+            loads.incrementAndGet();
+            return new ArrayList<>(stored);
+        }
+        groupLoads.incrementAndGet();
+        return stored.stream()
+            .filter(schedule -> taskDefinitionName.equals(schedule.getTaskDefinitionName()))
+            .collect(Collectors.toList());
+    };
+
+    @BeforeEach
+    void setUp() {
+        versionRepository = new ScheduleVersionRepository(QuartzTestDatabase.migrated().getDataSource(),
+            TABLE_PREFIX, SCHEDULER_NAME);
+        meterRegistry = new SimpleMeterRegistry();
+        stored.addAll(Arrays.asList(schedule("nightly", "etl"), schedule("hourly", "etl"), schedule("cleanup", "janitor")));
+    }
+
+    @Test
+    void servesListingsFromTheCacheAfterTheFirstLoad() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 10, Duration.ZERO, meterRegistry);
+
+        cache.list(null, loader);
+        List<ScheduleInfo> etl = cache.list("etl", loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(etl).extracting(ScheduleInfo::getScheduleName).containsExactly("hourly", "nightly");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void appliesLocalChangesWithoutReloading() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 10, Duration.ZERO, meterRegistry);
+        cache.list(null, loader);
+
+        cache.put(schedule("weekly", "report"));
+        cache.remove("cleanup");
+        cache.recordLocalChange();
+
+        assertThat(cache.list(null, loader)).extracting(ScheduleInfo::getScheduleName)
+            .containsExactly("hourly", "nightly", "weekly");
+        assertThat(cache.list("janitor", loader)).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsAfterAChangeOnAnotherNode() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 10, Duration.ZERO, meterRegistry);
+        cache.list(null, loader);
+
+        stored.add(schedule("weekly", "report"));
+        versionRepository.increment();
+
+        assertThat(cache.list("report", loader)).extracting(ScheduleInfo::getScheduleName).containsExactly("weekly");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void checksTheChangeVersionAtMostOncePerInterval() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 10, Duration.ofHours(1), meterRegistry);
+        cache.list(null, loader);
+
+        versionRepository.increment();
+
+        cache.list(null, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotCacheCatalogsLargerThanTheMaximumSize() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 2, Duration.ZERO, meterRegistry);
+
+        assertThat(cache.list(null, loader)).hasSize(3);
+        cache.list(null, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("nightly")).isNull();
+    }
+
+    @Test
+    void loadsOnlyTheGroupOfATaskDefinitionWhileTheCatalogIsTooLarge() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 2, Duration.ZERO, meterRegistry);
+        cache.list(null, loader);
+
+        assertThat(cache.list("etl", loader)).extracting(ScheduleInfo::getScheduleName)
+            .containsExactlyInAnyOrder("nightly", "hourly");
+        assertThat(loads).hasValue(1);
+        assertThat(groupLoads).hasValue(1);
+
+        // A full listing finds that the catalog fits again
+        stored.removeIf(schedule -> schedule.getScheduleName().equals("cleanup"));
+        cache.list(null, loader);
+        cache.list("etl", loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(groupLoads).hasValue(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reloadsAfterInvalidation() {
+        ScheduleInfoCache cache = new ScheduleInfoCache(versionRepository, 10, Duration.ZERO, meterRegistry);
+        cache.list(null, loader);
+
+        cache.invalidate();
+
+        assertThat(cache.get("nightly")).isNull();
+        cache.list(null, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static ScheduleInfo schedule(String scheduleName, String taskDefinitionName) {
+        ScheduleInfo scheduleInfo = new ScheduleInfo();
+        scheduleInfo.setScheduleName(scheduleName);
+        scheduleInfo.setTaskDefinitionName(taskDefinitionName);
+        return scheduleInfo;
+    }
+}